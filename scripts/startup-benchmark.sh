@@ -0,0 +1,102 @@
+#!/usr/bin/env bash
+#
+# Mede o tempo entre o início do processo e a primeira resposta 200 de
+# /api/calculadora/juros-compostos/resumo, em cada modo de inicialização:
+#
+#   padrao             configuração padrão
+#   fast-startup       perfil fast-startup (beans lazy, seed em segundo plano)
+#   fast-startup+cds   perfil fast-startup com arquivo AppCDS
+#   aot+cds            idem, com as definições de beans geradas pelo AOT (somente com AOT=1)
+#
+# Uso: scripts/startup-benchmark.sh
+# Variáveis: RUNS (execuções por modo, padrão 5), PORT (padrão 8080),
+#            AOT=1 para empacotar com -Paot e medir também o modo aot+cds
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-8080}
+AOT=${AOT:-0}
+FRONTEND_URL=${CALCULADORA_FRONTEND_URL:-http://localhost:5173}
+MAIN_CLASS=com.zedaconta.api.ZedaContaApplication
+WORK_DIR=target/startup-benchmark
+URL="http://localhost:${PORT}/api/calculadora/juros-compostos/resumo"
+BODY='{"valorInicial":1000,"valorMensal":100,"taxaJuros":1,"periodoJuros":"mensal","tempoInvestimento":10,"periodoInvestimento":"anos"}'
+
+if [[ "$AOT" == "1" ]]; then
+    mvn -B -q -DskipTests -Paot package
+else
+    mvn -B -q -DskipTests package
+fi
+
+# O AppCDS só arquiva classes carregadas de arquivos jar, e não de jars aninhados:
+# o jar executável é extraído e as classes da aplicação são empacotadas num jar próprio
+JAR=$(ls target/*.jar | grep -v '\.original$' | head -n 1)
+rm -rf "$WORK_DIR"
+mkdir -p "$WORK_DIR/extracted"
+(cd "$WORK_DIR/extracted" && jar xf "../../../$JAR")
+jar cf "$WORK_DIR/application.jar" -C "$WORK_DIR/extracted/BOOT-INF/classes" .
+CLASSPATH="$WORK_DIR/application.jar"
+while read -r entry; do
+    CLASSPATH="$CLASSPATH:$WORK_DIR/extracted/$entry"
+done < <(sed -n 's/^- "\(.*\)"$/\1/p' "$WORK_DIR/extracted/BOOT-INF/classpath.idx")
+
+# Inicia a aplicação e imprime os milissegundos até a primeira resposta 200
+time_to_first_response() {
+    local start end pid status
+    start=$(date +%s%N)
+    java "$@" -cp "$CLASSPATH" "$MAIN_CLASS" --server.port="$PORT" > "$WORK_DIR/app.log" 2>&1 &
+    pid=$!
+    
+    status=000
+    while [[ "$status" != "200" ]]; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "A aplicação terminou antes de responder, veja $WORK_DIR/app.log" >&2
+            exit 1
+        fi
+        sleep 0.05
+        status=$(curl -s -o /dev/null -w '%{http_code}' -X POST "$URL" \
+            -H 'Content-Type: application/json' -H "Origin: $FRONTEND_URL" -d "$BODY" || true)
+    done
+    end=$(date +%s%N)
+    
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo $(( (end - start) / 1000000 ))
+}
+
+measure() {
+    local mode=$1
+    shift
+    local times=()
+    for ((i = 1; i <= RUNS; i++)); do
+        times+=("$(time_to_first_response "$@")")
+    done
+    local sorted
+    sorted=$(printf '%s\n' "${times[@]}" | sort -n)
+    printf '%-20s mediana %6s ms   (execuções: %s)\n' "$mode" \
+        "$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")" "$(echo "$sorted" | tr '\n' ' ')"
+}
+
+# Execução de treino: sobe o contexto, grava as classes carregadas no arquivo CDS e sai
+train_cds() {
+    local archive=$1
+    shift
+    java "$@" -XX:ArchiveClassesAtExit="$archive" -Dspring.context.exit=onRefresh \
+        -cp "$CLASSPATH" "$MAIN_CLASS" > "$WORK_DIR/cds-training.log" 2>&1
+}
+
+if [[ "$AOT" == "1" ]]; then
+    # O jar AOT fixa os perfis usados no build (aot.profiles), por isso só é medido com AOT
+    train_cds "$WORK_DIR/aot.jsa" -Dspring.aot.enabled=true
+    measure "aot+cds" -XX:SharedArchiveFile="$WORK_DIR/aot.jsa" -Dspring.aot.enabled=true
+    exit 0
+fi
+
+measure "padrao"
+measure "fast-startup" -Dspring.profiles.active=fast-startup
+
+train_cds "$WORK_DIR/app.jsa" -Dspring.profiles.active=fast-startup
+measure "fast-startup+cds" -XX:SharedArchiveFile="$WORK_DIR/app.jsa" -Dspring.profiles.active=fast-startup
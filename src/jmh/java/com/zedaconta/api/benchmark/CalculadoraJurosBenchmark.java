@@ -0,0 +1,131 @@
+package com.zedaconta.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zedaconta.api.dto.CalculadoraJurosColunarResponse;
+import com.zedaconta.api.dto.CalculadoraJurosRequest;
+import com.zedaconta.api.dto.CalculadoraJurosResponse;
+import com.zedaconta.api.service.CalculadoraJurosCentavosService;
+import com.zedaconta.api.service.CalculadoraJurosService;
+import com.zedaconta.api.service.ParametrosCalculo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks do motor da calculadora e da serialização da resposta.
+ * Rode com o profiler de GC (já incluso no profile Maven) para ver
+ * gc.alloc.rate.norm ao lado da vazão.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CalculadoraJurosBenchmark {
+
+    @Param({"anual", "mensal", "diaria"})
+    private String periodoJuros;
+
+    @Param({"anos", "meses", "dias"})
+    private String periodoInvestimento;
+
+    /**
+     * curto = 1 ano, longo = 30 anos, expressos na unidade de periodoInvestimento
+     */
+    @Param({"curto", "longo"})
+    private String horizonte;
+
+    private final CalculadoraJurosService service = new CalculadoraJurosService();
+    private final CalculadoraJurosCentavosService serviceCentavos = new CalculadoraJurosCentavosService(service);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CalculadoraJurosRequest request;
+    private ParametrosCalculo parametros;
+    private CalculadoraJurosResponse response;
+    private CalculadoraJurosColunarResponse responseColunar;
+
+    @Setup
+    public void setup() {
+        int anos = "longo".equals(horizonte) ? 30 : 1;
+
+        request = new CalculadoraJurosRequest();
+        request.setValorInicial(10000.0);
+        request.setValorMensal(500.0);
+        request.setTaxaJuros(1.0);
+        request.setPeriodoJuros(periodoJuros);
+        request.setTempoInvestimento(switch (periodoInvestimento) {
+            case "anos" -> anos;
+            case "dias" -> anos * 360;
+            default -> anos * 12;
+        });
+        request.setPeriodoInvestimento(periodoInvestimento);
+
+        parametros = service.normalizar(request);
+        response = service.calcularJurosCompostos(request);
+        responseColunar = service.calcularJurosCompostosColunar(request);
+    }
+
+    @Benchmark
+    public CalculadoraJurosResponse calcularJurosCompostos() {
+        return service.calcularJurosCompostos(request);
+    }
+
+    @Benchmark
+    public CalculadoraJurosColunarResponse calcularJurosCompostosColunar() {
+        return service.calcularJurosCompostosColunar(request);
+    }
+
+    @Benchmark
+    public CalculadoraJurosResponse calcularResumo() {
+        return service.calcularResumo(request);
+    }
+
+    /**
+     * Apenas o laço mensal, sem montar a saída
+     */
+    @Benchmark
+    public void percorrerMeses(Blackhole blackhole) {
+        service.percorrerMeses(parametros, (mes, valorInvestido, juros, totalJuros, total) -> blackhole.consume(total));
+    }
+
+    @Benchmark
+    public CalculadoraJurosResponse calcularJurosCompostosCentavos() {
+        return serviceCentavos.calcularJurosCompostos(request);
+    }
+
+    /**
+     * Laço mensal do motor em centavos, para comparar com {@link #percorrerMeses(Blackhole)}
+     */
+    @Benchmark
+    public void percorrerMesesCentavos(Blackhole blackhole) {
+        serviceCentavos.percorrerMeses(parametros, (mes, valorInvestido, juros, totalJuros, total) -> blackhole.consume(total));
+    }
+
+    @Benchmark
+    public double normalizarTaxaJuros() {
+        return service.normalizarTaxaJuros(request.getTaxaJuros(), periodoJuros);
+    }
+
+    @Benchmark
+    public byte[] serializarResposta() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializarRespostaColunar() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responseColunar);
+    }
+}
@@ -0,0 +1,196 @@
+package com.zedaconta.api.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded in-memory cache with LRU eviction and time-based expiration.
+ * Values are computed outside the lock, once per key: concurrent misses for a
+ * key that is already being computed wait for that computation instead of
+ * starting their own.
+ */
+public class LruCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize maximum number of entries kept
+     * @param ttl     time to live of each entry; {@code null} or zero disables expiration
+     */
+    public LruCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl == null || ttl.isZero() ? 0 : ttl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public V get(K key) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                entries.remove(key);
+                evictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        }
+    }
+
+    public V getOrCompute(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        
+        CompletableFuture<V> computation = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = pending.putIfAbsent(key, computation);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            // Another caller may have stored the value between the miss and taking over the key
+            value = peek(key);
+            if (value == null) {
+                value = loader.apply(key);
+                if (value != null) {
+                    putIfStillPending(key, value, computation);
+                }
+            }
+            computation.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            computation.completeExceptionally(e);
+            throw e;
+        } finally {
+            pending.remove(key, computation);
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, ttlMillis == 0 ? Long.MAX_VALUE : System.currentTimeMillis() + ttlMillis);
+    }
+
+    /**
+     * Stores a value that expires at the given epoch millisecond, or at the
+     * configured TTL if that comes first.
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        if (maxSize <= 0) {
+            return;
+        }
+        long expiresAt = ttlMillis == 0
+                ? expiresAtMillis
+                : Math.min(expiresAtMillis, System.currentTimeMillis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, expiresAt));
+            // An explicit put supersedes a value still being computed from older data
+            pending.remove(key);
+            evictOverflow();
+        }
+    }
+
+    /**
+     * Removes the entry; a value being computed for the key when this is called
+     * is returned to its callers but not stored.
+     */
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+            pending.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            pending.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size(), maxSize);
+    }
+
+    /**
+     * Live value for the key, without touching the hit/miss counters
+     */
+    private V peek(K key) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            return entry == null || entry.isExpired(now) ? null : entry.value;
+        }
+    }
+
+    private void putIfStillPending(K key, V value, CompletableFuture<V> computation) {
+        if (maxSize <= 0) {
+            return;
+        }
+        long expiresAt = ttlMillis == 0 ? Long.MAX_VALUE : System.currentTimeMillis() + ttlMillis;
+        synchronized (entries) {
+            // Invalidated while computing: the value may predate the change
+            if (pending.get(key) == computation) {
+                entries.put(key, new Entry<>(value, expiresAt));
+                evictOverflow();
+            }
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> computation) {
+        try {
+            return computation.join();
+        } catch (CompletionException e) {
+            // Rethrow the loader's own exception, e.g. UsernameNotFoundException
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private void evictOverflow() {
+        // Expired entries are dropped lazily on read; overflow drops the least recently used
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
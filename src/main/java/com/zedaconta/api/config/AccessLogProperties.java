@@ -0,0 +1,36 @@
+package com.zedaconta.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogProperties {
+    private boolean enabled = true;
+    
+    /**
+     * Fraction of successful, fast requests that are logged (0.0 to 1.0).
+     * Errors and slow requests are always logged.
+     */
+    private double sampleRate = 0.01;
+    
+    /**
+     * Requests taking at least this long are always logged
+     */
+    private Duration slowThreshold = Duration.ofMillis(500);
+    
+    /**
+     * Request headers included in the log line
+     */
+    private List<String> headers = List.of("Content-Type", "User-Agent");
+    
+    /**
+     * Headers whose value is replaced by a placeholder, even if listed above
+     */
+    private List<String> redactedHeaders = List.of("Authorization", "Cookie", "Set-Cookie", "Proxy-Authorization");
+}
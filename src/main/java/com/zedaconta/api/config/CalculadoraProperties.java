@@ -4,9 +4,150 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "calculadora")
 public class CalculadoraProperties {
     private String frontendUrl;
+    
+    /**
+     * Número de threads do pool usado nos cálculos em paralelo
+     */
+    private int paralelismo = Runtime.getRuntime().availableProcessors();
+    
+    private Lote lote = new Lote();
+    
+    private Cache cache = new Cache();
+    
+    private Varredura varredura = new Varredura();
+    
+    private Limite limite = new Limite();
+    
+    private Auditoria auditoria = new Auditoria();
+    
+    private MonteCarlo monteCarlo = new MonteCarlo();
+    
+    private Curvas curvas = new Curvas();
+    
+    @Data
+    public static class Lote {
+        /**
+         * Quantidade máxima de cenários aceitos em uma única requisição
+         */
+        private int tamanhoMaximo = 10000;
+    }
+    
+    @Data
+    public static class Cache {
+        private boolean habilitado = true;
+        
+        /**
+         * Quantidade máxima de simulações mantidas em memória
+         */
+        private int tamanhoMaximo = 1000;
+        
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+    
+    @Data
+    public static class Varredura {
+        /**
+         * Quantidade máxima de combinações (taxas x aportes x tempos) por requisição
+         */
+        private int pontosMaximos = 2000;
+    }
+    
+    @Data
+    public static class Limite {
+        private boolean habilitado = true;
+        
+        /**
+         * Quantidade de requisições que um cliente pode fazer de uma vez
+         */
+        private int capacidade = 30;
+        
+        /**
+         * Requisições devolvidas ao balde de cada cliente por segundo
+         */
+        private double reposicaoPorSegundo = 5;
+        
+        /**
+         * Tempo com o balde cheio após o qual o cliente é removido da memória
+         */
+        private Duration tempoOcioso = Duration.ofMinutes(10);
+    }
+    
+    @Data
+    public static class Auditoria {
+        private boolean habilitada = true;
+        
+        /**
+         * Eventos aguardando gravação; com a fila cheia vale a {@code politica}
+         */
+        private int capacidadeFila = 10000;
+        
+        /**
+         * Eventos gravados por lote JDBC
+         */
+        private int tamanhoLote = 200;
+        
+        /**
+         * Tempo máximo que um evento espera na fila por um lote completo
+         */
+        private Duration intervalo = Duration.ofSeconds(1);
+        
+        private PoliticaFilaCheia politica = PoliticaFilaCheia.DESCARTAR;
+        
+        /**
+         * Espera máxima por espaço na fila com a política BLOQUEAR, após a qual o evento é descartado
+         */
+        private Duration esperaMaxima = Duration.ofMillis(50);
+        
+        /**
+         * Tempo dado ao gravador para esvaziar a fila no desligamento
+         */
+        private Duration esperaDesligamento = Duration.ofSeconds(10);
+    }
+    
+    @Data
+    public static class MonteCarlo {
+        private int caminhosMaximos = 100000;
+        
+        /**
+         * Limite de caminhos x meses simulados por requisição
+         */
+        private long passosMaximos = 50_000_000L;
+    }
+    
+    @Data
+    public static class Curvas {
+        /**
+         * Quantidade máxima de curvas de juros cadastradas
+         */
+        private int quantidadeMaxima = 100;
+        
+        /**
+         * Quantidade máxima de meses (taxas) por curva
+         */
+        private int mesesMaximos = 1200;
+        
+        /**
+         * Intervalo, em milissegundos, entre as buscas por curvas publicadas em outras instâncias
+         */
+        private long intervaloSincronizacao = 30000;
+    }
+    
+    public enum PoliticaFilaCheia {
+        /**
+         * Descarta o evento sem atrasar a requisição
+         */
+        DESCARTAR,
+        
+        /**
+         * Segura a requisição até {@code esperaMaxima} aguardando espaço na fila
+         */
+        BLOQUEAR
+    }
 }
@@ -3,62 +3,84 @@ package com.zedaconta.api.config;
 import com.zedaconta.api.model.Role;
 import com.zedaconta.api.model.User;
 import com.zedaconta.api.repository.UserRepository;
+import com.zedaconta.api.security.BoundedPasswordEncoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.CommandLineRunner;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Seeds the default users once the application is ready. With the
+ * {@code fast-startup} profile this runs on a background thread, so the
+ * queries and BCrypt hashing stay off the startup path, and logins for these
+ * users may fail for the first moments after startup. Otherwise the users
+ * exist before startup completes.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class DataInitializer implements CommandLineRunner {
+public class DataInitializer {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final Environment environment;
 
-    @Override
-    public void run(String... args) {
-        // Create admin user if not exists
-        if (!userRepository.existsByUsername("admin")) {
-            User admin = new User();
-            admin.setUsername("admin");
-            admin.setPassword(passwordEncoder.encode("admin123"));
-            admin.setEmail("admin@zedaconta.com");
-            admin.setFullName("Administrador");
-            admin.setRole(Role.ADMIN);
-            admin.setEnabled(true);
-            
-            userRepository.save(admin);
-            log.info("Admin user created successfully");
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!environment.acceptsProfiles(Profiles.of("fast-startup"))) {
+            seedUsers();
+            return;
         }
+        Thread seeder = new Thread(this::seedUsers, "data-initializer");
+        seeder.setDaemon(true);
+        seeder.start();
+    }
+
+    void seedUsers() {
+        List<User> defaults = List.of(
+                user("admin", "admin123", "admin@zedaconta.com", "Administrador", Role.ADMIN),
+                user("user", "user123", "user@zedaconta.com", "Usuário Padrão", Role.USER),
+                user("frontend", "frontend123", "frontend@zedaconta.com", "Usuário Frontend", Role.FRONTEND));
         
-        // Create regular user if not exists
-        if (!userRepository.existsByUsername("user")) {
-            User user = new User();
-            user.setUsername("user");
-            user.setPassword(passwordEncoder.encode("user123"));
-            user.setEmail("user@zedaconta.com");
-            user.setFullName("Usuário Padrão");
-            user.setRole(Role.USER);
-            user.setEnabled(true);
-            
-            userRepository.save(user);
-            log.info("Regular user created successfully");
+        // One query for all default users instead of one per user
+        Set<String> existing = userRepository.findExistingUsernames(defaults.stream().map(User::getUsername).toList());
+        List<User> missing = defaults.stream()
+                .filter(user -> !existing.contains(user.getUsername()))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
         }
         
-        // Create frontend user if not exists
-        if (!userRepository.existsByUsername("frontend")) {
-            User frontendUser = new User();
-            frontendUser.setUsername("frontend");
-            frontendUser.setPassword(passwordEncoder.encode("frontend123"));
-            frontendUser.setEmail("frontend@zedaconta.com");
-            frontendUser.setFullName("Usuário Frontend");
-            frontendUser.setRole(Role.FRONTEND);
-            frontendUser.setEnabled(true);
-            
-            userRepository.save(frontendUser);
-            log.info("Frontend user created successfully");
+        // Hashed in parallel on the password-hashing pool
+        List<String> hashes = passwordEncoder.encodeAll(missing.stream().map(User::getPassword).toList());
+        for (int i = 0; i < missing.size(); i++) {
+            missing.get(i).setPassword(hashes.get(i));
         }
+        
+        try {
+            userRepository.saveAll(missing);
+            missing.forEach(user -> log.info("Default user '{}' created successfully", user.getUsername()));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance seeded the same users concurrently
+            log.info("Default users already created by another instance");
+        }
+    }
+
+    private static User user(String username, String password, String email, String fullName, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword(password);
+        user.setEmail(email);
+        user.setFullName(fullName);
+        user.setRole(role);
+        user.setEnabled(true);
+        return user;
     }
 }
@@ -0,0 +1,14 @@
+package com.zedaconta.api.config;
+
+import lombok.Value;
+
+@Value
+public class DataSourcePoolStats {
+    String pool;
+    int activeConnections;
+    int idleConnections;
+    int totalConnections;
+    int maximumPoolSize;
+    int threadsAwaitingConnection;
+    long connectionsRouted;
+}
@@ -0,0 +1,61 @@
+package com.zedaconta.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections for read-only transactions to the replica and everything
+ * else to the primary. Must sit behind a {@code LazyConnectionDataSourceProxy}:
+ * the transaction manager asks for the connection before it marks the
+ * transaction read-only, so the lookup has to wait for the first statement.
+ * <p>
+ * The route is chosen once per physical connection, so every transaction needs
+ * its own {@code EntityManager}. With {@code spring.jpa.open-in-view} the request
+ * keeps the connection of its first transaction and a later write could run on
+ * the replica; it is disabled in {@code application.yml}.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final Map<Route, LongAdder> connectionsRouted = new EnumMap<>(Map.of(
+            Route.PRIMARY, new LongAdder(),
+            Route.REPLICA, new LongAdder()));
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+        connectionsRouted.get(route).increment();
+        return route;
+    }
+
+    public List<DataSourcePoolStats> poolStats() {
+        List<DataSourcePoolStats> stats = new ArrayList<>();
+        for (Map.Entry<Object, DataSource> target : getResolvedDataSources().entrySet()) {
+            if (target.getValue() instanceof HikariDataSource dataSource) {
+                HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+                stats.add(new DataSourcePoolStats(
+                        dataSource.getPoolName(),
+                        pool != null ? pool.getActiveConnections() : 0,
+                        pool != null ? pool.getIdleConnections() : 0,
+                        pool != null ? pool.getTotalConnections() : 0,
+                        dataSource.getMaximumPoolSize(),
+                        pool != null ? pool.getThreadsAwaitingConnection() : 0,
+                        connectionsRouted.get((Route) target.getKey()).sum()));
+            }
+        }
+        return stats;
+    }
+}
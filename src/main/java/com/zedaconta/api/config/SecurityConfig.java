@@ -1,11 +1,17 @@
 package com.zedaconta.api.config;
 
+import com.zedaconta.api.security.AuditoriaCalculoFilter;
+import com.zedaconta.api.security.BoundedPasswordEncoder;
+import com.zedaconta.api.security.CalculadoraRateLimitFilter;
 import com.zedaconta.api.security.CalculadoraSecurityFilter;
 import com.zedaconta.api.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -14,9 +20,12 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.DispatcherTypeRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -32,6 +41,8 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CalculadoraSecurityFilter calculadoraSecurityFilter;
+    private final CalculadoraRateLimitFilter calculadoraRateLimitFilter;
+    private final AuditoriaCalculoFilter auditoriaCalculoFilter;
     
     @Value("${cors.allowed-origins}")
     private String allowedOrigins;
@@ -45,6 +56,7 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(calculadoraStreamAsyncDispatch()).permitAll() // Already authorized on the REQUEST dispatch
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
                         .requestMatchers("/public/**").permitAll()
@@ -55,17 +67,29 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .addFilterBefore(calculadoraSecurityFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(auditoriaCalculoFilter, JwtAuthenticationFilter.class) // Wraps the rate limit so rejected calls are audited too
+                .addFilterAfter(calculadoraRateLimitFilter, AuditoriaCalculoFilter.class) // Needs the JWT principal to key the limit
                 .headers(headers -> headers.frameOptions().disable()) // For H2 console
                 .build();
     }
 
+    /**
+     * ASYNC dispatch of the NDJSON stream only. Any other async dispatch still
+     * goes through the regular rules.
+     */
+    private static RequestMatcher calculadoraStreamAsyncDispatch() {
+        return new AndRequestMatcher(
+                new DispatcherTypeRequestMatcher(DispatcherType.ASYNC),
+                new AntPathRequestMatcher("/calculadora/juros-compostos", HttpMethod.POST.name()));
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(List.of(allowedOrigins.split(",")));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
-        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setExposedHeaders(List.of("Authorization", "X-RateLimit-Limit", "X-RateLimit-Remaining", "Retry-After"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
         
@@ -75,8 +99,29 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public FilterRegistrationBean<CalculadoraRateLimitFilter> calculadoraRateLimitFilterRegistration() {
+        // Only runs inside the security chain; as a plain servlet filter it would run before authentication
+        FilterRegistrationBean<CalculadoraRateLimitFilter> registration = new FilterRegistrationBean<>(calculadoraRateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<AuditoriaCalculoFilter> auditoriaCalculoFilterRegistration() {
+        // Same as the rate limit: as a plain servlet filter it would audit every call twice, without the user
+        FilterRegistrationBean<AuditoriaCalculoFilter> registration = new FilterRegistrationBean<>(auditoriaCalculoFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+        // BCrypt runs on its own pool so auth bursts cannot take every core from the rest of the API
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, retryAfterSeconds);
     }
 
     @Bean
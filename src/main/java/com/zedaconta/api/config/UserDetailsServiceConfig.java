@@ -1,21 +1,32 @@
 package com.zedaconta.api.config;
 
 import com.zedaconta.api.repository.UserRepository;
+import com.zedaconta.api.security.CachedUserDetailsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
 public class UserDetailsServiceConfig {
 
     private final UserRepository userRepository;
 
+    @Value("${security.user-cache.max-size:1000}")
+    private int userCacheMaxSize;
+
+    @Value("${security.user-cache.ttl:5m}")
+    private Duration userCacheTtl;
+
     @Bean
-    public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByUsername(username)
+    public CachedUserDetailsService userDetailsService() {
+        UserDetailsService repositoryLookup = username -> userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        return new CachedUserDetailsService(repositoryLookup, userCacheMaxSize, userCacheTtl);
     }
 }
@@ -3,12 +3,14 @@ package com.zedaconta.api.controller;
 import com.zedaconta.api.model.Role;
 import com.zedaconta.api.model.User;
 import com.zedaconta.api.security.JwtTokenProvider;
+import com.zedaconta.api.service.RefreshTokenService;
 import com.zedaconta.api.service.UserService;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -38,24 +40,29 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
 
     @PostMapping("/login")
     public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
         // Authenticate user and validate credentials
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         loginRequest.getUsername(),
                         loginRequest.getPassword()
                 )
         );
 
-        String jwt = tokenProvider.createToken(loginRequest.getUsername());
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("token", jwt);
-        response.put("tokenType", "Bearer");
-        
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(tokenResponse((User) authentication.getPrincipal()));
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token,
+     * without checking the password again
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refreshToken(@Valid @RequestBody RefreshRequest refreshRequest) {
+        User user = refreshTokenService.consume(refreshRequest.getRefreshToken());
+        return ResponseEntity.ok(tokenResponse(user));
     }
 
     @PostMapping("/register")
@@ -76,6 +83,14 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    private Map<String, Object> tokenResponse(User user) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("token", tokenProvider.createToken(user));
+        response.put("tokenType", "Bearer");
+        response.put("refreshToken", refreshTokenService.issue(user));
+        return response;
+    }
+
     @Data
     public static class LoginRequest {
         @NotBlank
@@ -103,4 +118,10 @@ public class AuthController {
         @Size(max = 100)
         private String fullName;
     }
+
+    @Data
+    public static class RefreshRequest {
+        @NotBlank
+        private String refreshToken;
+    }
 }
@@ -1,17 +1,45 @@
 package com.zedaconta.api.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zedaconta.api.dto.CalculadoraJurosColunarResponse;
 import com.zedaconta.api.dto.CalculadoraJurosRequest;
 import com.zedaconta.api.dto.CalculadoraJurosResponse;
+import com.zedaconta.api.dto.CalculadoraLoteResponse;
+import com.zedaconta.api.dto.CalculadoraMetaRequest;
+import com.zedaconta.api.dto.CalculadoraMetaResponse;
+import com.zedaconta.api.dto.CalculadoraMonteCarloRequest;
+import com.zedaconta.api.dto.CalculadoraMonteCarloResponse;
+import com.zedaconta.api.dto.CalculadoraVarreduraRequest;
+import com.zedaconta.api.dto.CalculadoraVarreduraResponse;
+import com.zedaconta.api.dto.Granularidade;
+import com.zedaconta.api.service.AuditoriaCalculoService;
+import com.zedaconta.api.service.CalculadoraJurosCache;
+import com.zedaconta.api.service.CalculadoraJurosCentavosService;
 import com.zedaconta.api.service.CalculadoraJurosService;
+import com.zedaconta.api.service.CalculadoraLoteService;
+import com.zedaconta.api.service.CalculadoraMetaService;
+import com.zedaconta.api.service.CalculadoraMonteCarloService;
+import com.zedaconta.api.service.CalculadoraVarreduraService;
+import com.zedaconta.api.service.DetalhesAuditoria;
+import com.zedaconta.api.service.JanelaMeses;
+import com.zedaconta.api.service.ParametrosCalculo;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,13 +48,215 @@ import org.springframework.web.bind.annotation.RestController;
 public class CalculadoraController {
 
     private final CalculadoraJurosService calculadoraJurosService;
+    private final CalculadoraJurosCache calculadoraJurosCache;
+    private final CalculadoraJurosCentavosService calculadoraJurosCentavosService;
+    private final CalculadoraLoteService calculadoraLoteService;
+    private final CalculadoraVarreduraService calculadoraVarreduraService;
+    private final CalculadoraMetaService calculadoraMetaService;
+    private final CalculadoraMonteCarloService calculadoraMonteCarloService;
+    private final AuditoriaCalculoService auditoriaCalculoService;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * Com {@code mesInicial} e/ou {@code mesFinal} apenas essa janela de meses é
+     * calculada e retornada, sem percorrer os meses anteriores a ela.
+     * Com {@code granularidade} ("trimestral" ou "anual") as linhas são agregadas por período.
+     */
     @PostMapping("/juros-compostos")
     @PreAuthorize("hasRole('FRONTEND') or hasRole('ADMIN')")
     public ResponseEntity<CalculadoraJurosResponse> calcularJurosCompostos(
+            @Valid @RequestBody CalculadoraJurosRequest request,
+            @RequestParam(required = false) Integer mesInicial,
+            @RequestParam(required = false) Integer mesFinal,
+            @RequestParam(required = false) String granularidade) {
+        
+        DetalhesAuditoria auditoria = auditar("juros-compostos", request);
+        Granularidade agregacao = Granularidade.de(granularidade);
+        
+        CalculadoraJurosResponse response = mesInicial == null && mesFinal == null && agregacao == Granularidade.MENSAL
+                ? calculadoraJurosCache.calcularJurosCompostos(request)
+                : calculadoraJurosService.calcularJurosCompostos(request, mesInicial, mesFinal, agregacao);
+        auditoria.setLinhasResultado(response.getResultadosMensais().size());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Formato colunar dos resultados mensais, selecionado pelo cabeçalho Accept.
+     */
+    @PostMapping(value = "/juros-compostos", produces = CalculadoraJurosColunarResponse.MEDIA_TYPE)
+    @PreAuthorize("hasRole('FRONTEND') or hasRole('ADMIN')")
+    public ResponseEntity<CalculadoraJurosColunarResponse> calcularJurosCompostosColunar(
             @Valid @RequestBody CalculadoraJurosRequest request) {
         
-        CalculadoraJurosResponse response = calculadoraJurosService.calcularJurosCompostos(request);
+        DetalhesAuditoria auditoria = auditar("juros-compostos-colunar", request);
+        CalculadoraJurosColunarResponse response = calculadoraJurosService.calcularJurosCompostosColunar(request);
+        auditoria.setLinhasResultado(response.getResultadosMensais().getTotal().length);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Formato colunar dos resultados mensais, selecionado por {@code ?formato=colunar}.
+     */
+    @PostMapping(value = "/juros-compostos", params = "formato=colunar")
+    @PreAuthorize("hasRole('FRONTEND') or hasRole('ADMIN')")
+    public ResponseEntity<CalculadoraJurosColunarResponse> calcularJurosCompostosFormatoColunar(
+            @Valid @RequestBody CalculadoraJurosRequest request) {
+        
+        return calcularJurosCompostosColunar(request);
+    }
+
+    /**
+     * Versão em streaming (NDJSON): cada mês é escrito na resposta assim que
+     * calculado, uma linha JSON por mês, sem montar a lista em memória.
+     * Sem janela de meses, a última linha traz os totais finais.
+     */
+    @PostMapping(value = "/juros-compostos", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('FRONTEND') or hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> calcularJurosCompostosStream(
+            @Valid @RequestBody CalculadoraJurosRequest request,
+            @RequestParam(required = false) Integer mesInicial,
+            @RequestParam(required = false) Integer mesFinal,
+            @RequestParam(required = false) String granularidade) {
+        
+        DetalhesAuditoria auditoria = auditar("juros-compostos-stream", request);
+        ParametrosCalculo parametros = calculadoraJurosService.normalizar(request);
+        JanelaMeses janela = calculadoraJurosService.resolverJanela(parametros, mesInicial, mesFinal);
+        Granularidade agregacao = Granularidade.de(granularidade);
+        
+        StreamingResponseBody corpo = saida -> {
+            JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida);
+            gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gerador.setRootValueSeparator(null);
+            int[] linhas = new int[1];
+            try {
+                calculadoraJurosService.percorrerMeses(parametros, janela, agregacao, (mes, valorInvestido, juros, totalJuros, total) -> {
+                    escreverLinha(gerador, mes, valorInvestido, juros, totalJuros, total);
+                    linhas[0]++;
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                // Roda fora da thread da requisição; o filtro grava o registro quando a resposta termina
+                auditoria.setLinhasResultado(linhas[0]);
+            }
+            gerador.close();
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
+    }
+
+    /**
+     * Mesma simulação calculada pelo motor em centavos (ponto fixo), com
+     * resultados reprodutíveis ao centavo.
+     */
+    @PostMapping("/juros-compostos/centavos")
+    @PreAuthorize("hasRole('FRONTEND') or hasRole('ADMIN')")
+    public ResponseEntity<CalculadoraJurosResponse> calcularJurosCompostosCentavos(
+            @Valid @RequestBody CalculadoraJurosRequest request) {
+        
+        DetalhesAuditoria auditoria = auditar("juros-compostos-centavos", request);
+        CalculadoraJurosResponse response = calculadoraJurosCentavosService.calcularJurosCompostos(request);
+        auditoria.setLinhasResultado(response.getResultadosMensais().size());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/juros-compostos/resumo")
+    @PreAuthorize("hasRole('FRONTEND') or hasRole('ADMIN')")
+    public ResponseEntity<CalculadoraJurosResponse> calcularResumo(
+            @Valid @RequestBody CalculadoraJurosRequest request) {
+        
+        auditar("juros-compostos-resumo", request);
+        CalculadoraJurosResponse response = calculadoraJurosService.calcularResumo(request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Calcula vários cenários em uma única requisição, distribuindo-os entre os núcleos.
+     * Com {@code resumo=true} cada cenário traz apenas os totais.
+     */
+    @PostMapping("/juros-compostos/lote")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CalculadoraLoteResponse> calcularLote(
+            @RequestBody List<CalculadoraJurosRequest> requests,
+            @RequestParam(defaultValue = "false") boolean resumo) {
+        
+        DetalhesAuditoria auditoria = auditar("juros-compostos-lote", requests);
+        CalculadoraLoteResponse response = calculadoraLoteService.calcularLote(requests, resumo);
+        auditoria.setLinhasResultado(response.getTotal());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Grade de cenários taxas x aportes x tempos em uma única requisição.
+     */
+    @PostMapping("/juros-compostos/varredura")
+    @PreAuthorize("hasRole('FRONTEND') or hasRole('ADMIN')")
+    public ResponseEntity<CalculadoraVarreduraResponse> calcularVarredura(
+            @Valid @RequestBody CalculadoraVarreduraRequest request) {
+        
+        DetalhesAuditoria auditoria = auditar("juros-compostos-varredura", request);
+        CalculadoraVarreduraResponse response = calculadoraVarreduraService.calcularVarredura(request);
+        auditoria.setLinhasResultado(
+                response.getTaxasJuros().size() * response.getValoresMensais().size() * response.getTemposInvestimento().size());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Busca de meta: calcula o aporte mensal, o tempo ou a taxa necessários para
+     * atingir o valor final informado, sem montar os resultados mensais.
+     */
+    @PostMapping("/juros-compostos/meta")
+    @PreAuthorize("hasRole('FRONTEND') or hasRole('ADMIN')")
+    public ResponseEntity<CalculadoraMetaResponse> resolverMeta(
+            @Valid @RequestBody CalculadoraMetaRequest request) {
+        
+        auditar("juros-compostos-meta", request);
+        CalculadoraMetaResponse response = calculadoraMetaService.resolver(request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Monte Carlo com taxa aleatória: faixas de percentis (P5 a P95) do montante
+     * por mês ou agregadas pela {@code granularidade} da requisição.
+     */
+    @PostMapping("/juros-compostos/monte-carlo")
+    @PreAuthorize("hasRole('FRONTEND') or hasRole('ADMIN')")
+    public ResponseEntity<CalculadoraMonteCarloResponse> simularMonteCarlo(
+            @Valid @RequestBody CalculadoraMonteCarloRequest request) {
+        
+        DetalhesAuditoria auditoria = auditar("juros-compostos-monte-carlo", request);
+        CalculadoraMonteCarloResponse response = calculadoraMonteCarloService.simular(request);
+        auditoria.setLinhasResultado(response.getMeses().length);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Descrita antes do cálculo, para que uma falha também fique registrada com as entradas
+     */
+    private DetalhesAuditoria auditar(String operacao, Object entradas) {
+        return auditoriaCalculoService.descrever(operacao, entradas, 0);
+    }
+
+    private void escreverLinha(JsonGenerator gerador, int mes, double valorInvestido, double juros,
+                               double totalJuros, double total) {
+        try {
+            gerador.writeStartObject();
+            gerador.writeNumberField("mes", mes);
+            gerador.writeNumberField("valorInvestido", valorInvestido);
+            gerador.writeNumberField("juros", juros);
+            gerador.writeNumberField("totalJuros", totalJuros);
+            gerador.writeNumberField("total", total);
+            gerador.writeEndObject();
+            gerador.writeRaw('\n');
+            
+            // Envia um bloco por ano simulado para o cliente começar a receber cedo
+            if (mes % 12 == 0) {
+                gerador.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
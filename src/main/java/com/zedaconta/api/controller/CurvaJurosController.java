@@ -0,0 +1,70 @@
+package com.zedaconta.api.controller;
+
+import com.zedaconta.api.dto.CalculadoraJurosResponse;
+import com.zedaconta.api.dto.CurvaJurosDTO;
+import com.zedaconta.api.dto.CurvaJurosRequest;
+import com.zedaconta.api.dto.CurvaJurosSimulacaoRequest;
+import com.zedaconta.api.service.AuditoriaCalculoService;
+import com.zedaconta.api.service.CurvaJurosService;
+import com.zedaconta.api.service.DetalhesAuditoria;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Curvas de juros mensais nomeadas (Selic, CDI, IPCA...) e simulações sobre elas.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/calculadora/curvas")
+@CrossOrigin(origins = "${calculadora.frontend-url}", allowCredentials = "true")
+public class CurvaJurosController {
+
+    private final CurvaJurosService curvaJurosService;
+    private final AuditoriaCalculoService auditoriaCalculoService;
+
+    /**
+     * Cadastra ou substitui a curva inteira
+     */
+    @PutMapping("/{nome}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CurvaJurosDTO> publicar(
+            @PathVariable String nome,
+            @Valid @RequestBody CurvaJurosRequest request) {
+        
+        auditoriaCalculoService.descrever("curva-juros-publicar", Map.of("curva", nome), 0);
+        return ResponseEntity.ok(curvaJurosService.publicar(nome, request.getTaxas()));
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('FRONTEND') or hasRole('ADMIN')")
+    public ResponseEntity<List<CurvaJurosDTO>> listar() {
+        auditoriaCalculoService.descrever("curva-juros-listar", null, 0);
+        return ResponseEntity.ok(curvaJurosService.listar());
+    }
+
+    @PostMapping("/{nome}/simular")
+    @PreAuthorize("hasRole('FRONTEND') or hasRole('ADMIN')")
+    public ResponseEntity<CalculadoraJurosResponse> simular(
+            @PathVariable String nome,
+            @Valid @RequestBody CurvaJurosSimulacaoRequest request) {
+        
+        DetalhesAuditoria auditoria = auditoriaCalculoService.descrever("curva-juros-simular",
+                Map.of("curva", nome, "simulacao", request), 0);
+        CalculadoraJurosResponse response = curvaJurosService.simular(nome, request);
+        auditoria.setLinhasResultado(response.getResultadosMensais() != null ? response.getResultadosMensais().size() : 0);
+        return ResponseEntity.ok(response);
+    }
+}
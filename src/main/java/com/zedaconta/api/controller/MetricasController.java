@@ -0,0 +1,68 @@
+package com.zedaconta.api.controller;
+
+import com.zedaconta.api.cache.CacheStats;
+import com.zedaconta.api.config.DataSourcePoolStats;
+import com.zedaconta.api.config.ReadWriteRoutingDataSource;
+import com.zedaconta.api.security.BoundedPasswordEncoder;
+import com.zedaconta.api.security.CachedUserDetailsService;
+import com.zedaconta.api.security.CalculadoraRateLimitFilter;
+import com.zedaconta.api.security.PasswordHashingStats;
+import com.zedaconta.api.security.RateLimitStats;
+import com.zedaconta.api.service.AuditoriaCalculoService;
+import com.zedaconta.api.service.CalculadoraJurosCache;
+import com.zedaconta.api.service.EstatisticasAuditoria;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Métricas internas da aplicação, restritas a administradores.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/metricas")
+@PreAuthorize("hasRole('ADMIN')")
+public class MetricasController {
+
+    private final CalculadoraJurosCache calculadoraJurosCache;
+    private final CachedUserDetailsService userDetailsService;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final CalculadoraRateLimitFilter calculadoraRateLimitFilter;
+    private final AuditoriaCalculoService auditoriaCalculoService;
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    @GetMapping("/calculadora-cache")
+    public ResponseEntity<CacheStats> getCalculadoraCache() {
+        return ResponseEntity.ok(calculadoraJurosCache.estatisticas());
+    }
+
+    @GetMapping("/usuarios-cache")
+    public ResponseEntity<CacheStats> getUsuariosCache() {
+        return ResponseEntity.ok(userDetailsService.stats());
+    }
+
+    @GetMapping("/hashing-senhas")
+    public ResponseEntity<PasswordHashingStats> getHashingSenhas() {
+        return ResponseEntity.ok(passwordEncoder.stats());
+    }
+
+    @GetMapping("/limite-calculadora")
+    public ResponseEntity<RateLimitStats> getLimiteCalculadora() {
+        return ResponseEntity.ok(calculadoraRateLimitFilter.stats());
+    }
+
+    @GetMapping("/auditoria")
+    public ResponseEntity<EstatisticasAuditoria> getAuditoria() {
+        return ResponseEntity.ok(auditoriaCalculoService.estatisticas());
+    }
+
+    @GetMapping("/datasources")
+    public ResponseEntity<List<DataSourcePoolStats>> getDatasources() {
+        return ResponseEntity.ok(routingDataSource.poolStats());
+    }
+}
@@ -0,0 +1,40 @@
+package com.zedaconta.api.controller;
+
+import com.zedaconta.api.security.PasswordHashingRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestControllerAdvice
+public class RestExceptionHandler {
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<?> handlePasswordHashingRejected(PasswordHashingRejectedException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Authentication service is busy, please retry shortly");
+        response.put("timestamp", System.currentTimeMillis());
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    /**
+     * Writes the status directly instead of going through the /error dispatch,
+     * which the stateless security chain would answer with 403
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<?> handleResponseStatus(ResponseStatusException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", ex.getReason());
+        response.put("timestamp", System.currentTimeMillis());
+        
+        return ResponseEntity.status(ex.getStatusCode()).body(response);
+    }
+}
@@ -0,0 +1,61 @@
+package com.zedaconta.api.controller;
+
+import com.zedaconta.api.dto.CalculadoraJurosRequest;
+import com.zedaconta.api.dto.SimulacaoDTO;
+import com.zedaconta.api.security.AuthenticatedUser;
+import com.zedaconta.api.service.SimulacaoService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Histórico de simulações do usuário autenticado via JWT.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/simulacoes")
+public class SimulacaoController {
+
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
+
+    private final SimulacaoService simulacaoService;
+
+    @PostMapping
+    public ResponseEntity<SimulacaoDTO> salvar(
+            @AuthenticationPrincipal AuthenticatedUser usuario,
+            @Valid @RequestBody CalculadoraJurosRequest request) {
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(simulacaoService.salvar(usuario.getId(), request));
+    }
+
+    @GetMapping
+    public ResponseEntity<Page<SimulacaoDTO>> listar(
+            @AuthenticationPrincipal AuthenticatedUser usuario,
+            @RequestParam(defaultValue = "0") int pagina,
+            @RequestParam(defaultValue = "20") int tamanho) {
+        
+        return ResponseEntity.ok(simulacaoService.listar(usuario.getId(),
+                Math.max(pagina, 0), Math.min(Math.max(tamanho, 1), TAMANHO_MAXIMO_PAGINA)));
+    }
+
+    /**
+     * Reabre a simulação com os resultados mensais recalculados
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<SimulacaoDTO> reabrir(
+            @AuthenticationPrincipal AuthenticatedUser usuario,
+            @PathVariable Long id) {
+        
+        return ResponseEntity.ok(simulacaoService.reabrir(usuario.getId(), id));
+    }
+}
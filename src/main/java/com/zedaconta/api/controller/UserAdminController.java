@@ -0,0 +1,59 @@
+package com.zedaconta.api.controller;
+
+import com.zedaconta.api.dto.UserImportRequest;
+import com.zedaconta.api.dto.UserImportResponse;
+import com.zedaconta.api.model.User;
+import com.zedaconta.api.service.UserImportService;
+import com.zedaconta.api.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin/users")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class UserAdminController {
+
+    private final UserService userService;
+    private final UserImportService userImportService;
+
+    /**
+     * Bulk import for partner onboarding; each entry reports its own result
+     */
+    @PostMapping("/import")
+    public ResponseEntity<UserImportResponse> importUsers(@RequestBody List<UserImportRequest> requests) {
+        return ResponseEntity.ok(userImportService.importUsers(requests));
+    }
+
+    @PostMapping("/{id}/disable")
+    public ResponseEntity<?> disableUser(@PathVariable Long id) {
+        User user = userService.disableUser(id);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "User disabled successfully");
+        response.put("userId", user.getId());
+        
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{id}/revoke-tokens")
+    public ResponseEntity<?> revokeTokens(@PathVariable Long id) {
+        User user = userService.revokeTokens(id);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Tokens revoked successfully");
+        response.put("userId", user.getId());
+        
+        return ResponseEntity.ok(response);
+    }
+}
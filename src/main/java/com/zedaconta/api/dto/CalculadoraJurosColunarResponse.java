@@ -0,0 +1,20 @@
+package com.zedaconta.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalculadoraJurosColunarResponse {
+
+    public static final String MEDIA_TYPE = "application/vnd.zedaconta.colunar+json";
+
+    private Double valorFinal;
+    private Double juros;
+    private Double totalInvestido;
+    private ResultadosMensaisColunarDTO resultadosMensais;
+}
@@ -0,0 +1,18 @@
+package com.zedaconta.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalculadoraLoteResponse {
+    private Integer total;
+    private Integer comErro;
+    private List<ItemLoteDTO> itens;
+}
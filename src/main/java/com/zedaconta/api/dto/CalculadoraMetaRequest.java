@@ -0,0 +1,43 @@
+package com.zedaconta.api.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+
+/**
+ * Busca de meta: informa o valor final desejado e todos os campos da simulação
+ * exceto a {@code incognita}, que é calculada.
+ */
+@Data
+public class CalculadoraMetaRequest {
+    
+    @NotNull
+    @Positive
+    private Double valorFinal;
+    
+    /**
+     * "valorMensal", "tempoInvestimento" ou "taxaJuros"
+     */
+    @NotNull
+    private String incognita;
+    
+    @NotNull
+    @PositiveOrZero
+    private Double valorInicial;
+    
+    @PositiveOrZero
+    private Double valorMensal;
+    
+    @PositiveOrZero
+    private Double taxaJuros;
+    
+    @NotNull
+    private String periodoJuros;
+    
+    @Positive
+    private Integer tempoInvestimento;
+    
+    @NotNull
+    private String periodoInvestimento;
+}
@@ -0,0 +1,34 @@
+package com.zedaconta.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CalculadoraMetaResponse {
+    private String incognita;
+    
+    /**
+     * Valor encontrado para a incógnita, nas unidades da requisição
+     * (reais, {@code periodoInvestimento} ou porcentagem no {@code periodoJuros})
+     */
+    private Double valor;
+    
+    /**
+     * Iterações do método de Newton, apenas ao resolver a taxa
+     */
+    private Integer iteracoes;
+    
+    /**
+     * Totais da simulação com o valor encontrado
+     */
+    private Double valorFinal;
+    private Double juros;
+    private Double totalInvestido;
+}
@@ -0,0 +1,54 @@
+package com.zedaconta.api.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+
+@Data
+public class CalculadoraMonteCarloRequest {
+    
+    @NotNull
+    @Positive
+    private Double valorInicial;
+    
+    @NotNull
+    @PositiveOrZero
+    private Double valorMensal;
+    
+    /**
+     * Taxa média, em porcentagem no {@code periodoJuros}
+     */
+    @NotNull
+    private Double taxaJuros;
+    
+    /**
+     * Desvio padrão da taxa, em porcentagem no {@code periodoJuros}
+     */
+    @NotNull
+    @PositiveOrZero
+    private Double volatilidade;
+    
+    @NotNull
+    private String periodoJuros;
+    
+    @NotNull
+    @Positive
+    private Integer tempoInvestimento;
+    
+    @NotNull
+    private String periodoInvestimento;
+    
+    @Positive
+    private Integer caminhos = 10000;
+    
+    /**
+     * "mensal", "trimestral" ou "anual"
+     */
+    private String granularidade;
+    
+    /**
+     * Semente opcional para resultados reprodutíveis
+     */
+    private Long semente;
+}
@@ -0,0 +1,30 @@
+package com.zedaconta.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Faixas de percentis do montante em formato colunar: cada array é indexado
+ * pelo ponto de saída, cujo mês está em {@code meses}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalculadoraMonteCarloResponse {
+    private Integer caminhos;
+    private int[] meses;
+    private double[] valorInvestido;
+    private double[] p5;
+    private double[] p25;
+    private double[] p50;
+    private double[] p75;
+    private double[] p95;
+    
+    /**
+     * Valor final com a taxa média fixa, para comparação
+     */
+    private Double valorFinalTaxaMedia;
+}
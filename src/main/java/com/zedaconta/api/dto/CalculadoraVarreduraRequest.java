@@ -0,0 +1,36 @@
+package com.zedaconta.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CalculadoraVarreduraRequest {
+    
+    @NotNull
+    @Positive
+    private Double valorInicial;
+    
+    @NotEmpty
+    private List<@NotNull @Positive Double> valoresMensais;
+    
+    @NotEmpty
+    private List<@NotNull @Positive Double> taxasJuros;
+    
+    @NotNull
+    private String periodoJuros;
+    
+    @NotEmpty
+    private List<@NotNull @Positive Integer> temposInvestimento;
+    
+    @NotNull
+    private String periodoInvestimento;
+    
+    /**
+     * Inclui a série mensal do maior horizonte para cada par taxa/aporte
+     */
+    private boolean incluirResultadosMensais;
+}
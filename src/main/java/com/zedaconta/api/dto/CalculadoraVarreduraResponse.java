@@ -0,0 +1,27 @@
+package com.zedaconta.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CalculadoraVarreduraResponse {
+    private List<Double> taxasJuros;
+    private List<Double> valoresMensais;
+    private List<Integer> temposInvestimento;
+    
+    /**
+     * Valor final indexado por [taxa][aporte][tempo], na ordem das listas acima
+     */
+    private double[][][] valoresFinais;
+    
+    private List<SerieVarreduraDTO> series;
+}
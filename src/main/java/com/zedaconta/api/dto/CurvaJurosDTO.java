@@ -0,0 +1,24 @@
+package com.zedaconta.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CurvaJurosDTO {
+    private String nome;
+    private Integer meses;
+    
+    /**
+     * Taxa do período inteiro da curva, em porcentagem
+     */
+    private Double taxaAcumulada;
+    
+    private Instant atualizadaEm;
+}
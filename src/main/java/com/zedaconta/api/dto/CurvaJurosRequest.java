@@ -0,0 +1,18 @@
+package com.zedaconta.api.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CurvaJurosRequest {
+    
+    /**
+     * Taxas mensais em porcentagem, a partir do mês 0 da curva
+     */
+    @NotEmpty
+    private List<@NotNull @DecimalMin(value = "-100", inclusive = false) Double> taxas;
+}
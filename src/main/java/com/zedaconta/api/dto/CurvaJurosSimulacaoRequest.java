@@ -0,0 +1,36 @@
+package com.zedaconta.api.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+
+@Data
+public class CurvaJurosSimulacaoRequest {
+    
+    @NotNull
+    @Positive
+    private Double valorInicial;
+    
+    @NotNull
+    @PositiveOrZero
+    private Double valorMensal;
+    
+    /**
+     * Mês da curva em que a simulação começa
+     */
+    @PositiveOrZero
+    private Integer mesInicial = 0;
+    
+    @NotNull
+    @Positive
+    private Integer tempoInvestimento;
+    
+    @NotNull
+    private String periodoInvestimento;
+    
+    /**
+     * Inclui os resultados mensais, cada um também calculado em tempo constante
+     */
+    private boolean incluirResultadosMensais;
+}
@@ -0,0 +1,38 @@
+package com.zedaconta.api.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Período de agregação das linhas da simulação.
+ */
+public enum Granularidade {
+    MENSAL(1),
+    TRIMESTRAL(3),
+    ANUAL(12);
+
+    private final int meses;
+
+    Granularidade(int meses) {
+        this.meses = meses;
+    }
+
+    public int getMeses() {
+        return meses;
+    }
+
+    /**
+     * Converte o valor recebido na requisição ("mensal", "trimestral", "anual"),
+     * assumindo mensal quando não informado.
+     */
+    public static Granularidade de(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return MENSAL;
+        }
+        try {
+            return valueOf(valor.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Granularidade inválida: " + valor);
+        }
+    }
+}
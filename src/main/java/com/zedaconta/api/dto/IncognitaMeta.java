@@ -0,0 +1,35 @@
+package com.zedaconta.api.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Campo da simulação resolvido para atingir o valor final desejado.
+ */
+public enum IncognitaMeta {
+    VALOR_MENSAL("valorMensal"),
+    TEMPO_INVESTIMENTO("tempoInvestimento"),
+    TAXA_JUROS("taxaJuros");
+
+    private final String campo;
+
+    IncognitaMeta(String campo) {
+        this.campo = campo;
+    }
+
+    public String getCampo() {
+        return campo;
+    }
+
+    /**
+     * Converte o nome do campo recebido na requisição ("valorMensal", "tempoInvestimento", "taxaJuros")
+     */
+    public static IncognitaMeta de(String valor) {
+        for (IncognitaMeta incognita : values()) {
+            if (incognita.campo.equalsIgnoreCase(valor)) {
+                return incognita;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Incógnita inválida: " + valor);
+    }
+}
@@ -1,18 +1,18 @@
 package com.zedaconta.api.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
-@Data
+/**
+ * Linha imutável: as mesmas instâncias são compartilhadas entre as respostas
+ * servidas pelo cache da calculadora e as simulações reabertas.
+ */
+@Value
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
 public class ResultadoMensalDTO {
-    private Integer mes;
-    private Double valorInvestido;
-    private Double juros;
-    private Double totalJuros;
-    private Double total;
+    Integer mes;
+    Double valorInvestido;
+    Double juros;
+    Double totalJuros;
+    Double total;
 }
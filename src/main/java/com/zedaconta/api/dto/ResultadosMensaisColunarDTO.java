@@ -0,0 +1,20 @@
+package com.zedaconta.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultados mensais em formato colunar: o índice de cada array é o mês.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadosMensaisColunarDTO {
+    private double[] valorInvestido;
+    private double[] juros;
+    private double[] totalJuros;
+    private double[] total;
+}
@@ -0,0 +1,22 @@
+package com.zedaconta.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Série mensal de um par taxa/aporte até o maior horizonte da varredura.
+ * A série de um horizonte menor é o prefixo desta lista.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SerieVarreduraDTO {
+    private Double taxaJuros;
+    private Double valorMensal;
+    private List<ResultadoMensalDTO> resultadosMensais;
+}
@@ -0,0 +1,32 @@
+package com.zedaconta.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SimulacaoDTO {
+    private Long id;
+    private Double valorInicial;
+    private Double aporteMensal;
+    private Double taxaJurosMensal;
+    private Integer meses;
+    private Double valorFinal;
+    private Double juros;
+    private Double totalInvestido;
+    private Instant criadoEm;
+    
+    /**
+     * Preenchido apenas ao reabrir uma simulação
+     */
+    private List<ResultadoMensalDTO> resultadosMensais;
+}
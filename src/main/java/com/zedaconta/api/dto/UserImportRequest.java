@@ -0,0 +1,36 @@
+package com.zedaconta.api.dto;
+
+import com.zedaconta.api.model.Role;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRequest {
+    @NotBlank
+    @Size(min = 3, max = 50)
+    private String username;
+
+    @NotBlank
+    @Size(min = 6, max = 100)
+    private String password;
+
+    @NotBlank
+    @Size(max = 100)
+    @Email
+    private String email;
+
+    @Size(max = 100)
+    private String fullName;
+
+    @NotNull
+    private Role role;
+}
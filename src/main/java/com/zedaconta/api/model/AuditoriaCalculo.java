@@ -0,0 +1,55 @@
+package com.zedaconta.api.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Registro de auditoria de uma chamada à calculadora.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "auditoria_calculos", indexes = @Index(name = "idx_auditoria_calculos_criado_em", columnList = "criado_em"))
+public class AuditoriaCalculo {
+
+    public static final int TAMANHO_MAXIMO_ENTRADAS = 4000;
+    public static final int TAMANHO_MAXIMO_OPERACAO = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auditoria_calculos_seq")
+    @SequenceGenerator(name = "auditoria_calculos_seq", sequenceName = "auditoria_calculos_seq", allocationSize = 200)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String usuario;
+
+    @Column(nullable = false, length = TAMANHO_MAXIMO_OPERACAO)
+    private String operacao;
+
+    /**
+     * Entradas da requisição em JSON, truncadas em {@link #TAMANHO_MAXIMO_ENTRADAS};
+     * vazias quando a chamada foi recusada antes de chegar ao endpoint
+     */
+    @Column(length = TAMANHO_MAXIMO_ENTRADAS)
+    private String entradas;
+
+    @Column(name = "duracao_micros", nullable = false)
+    private long duracaoMicros;
+
+    @Column(name = "linhas_resultado", nullable = false)
+    private int linhasResultado;
+
+    /**
+     * Status HTTP da resposta
+     */
+    @Column(nullable = false)
+    private int status;
+
+    @Column(name = "criado_em", nullable = false)
+    private Instant criadoEm;
+}
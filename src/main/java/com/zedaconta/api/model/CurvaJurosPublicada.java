@@ -0,0 +1,42 @@
+package com.zedaconta.api.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Taxas mensais de uma curva de juros publicada, como recebidas. Os fatores
+ * acumulados não são gravados: cada instância os remonta ao carregar a curva.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "curva_juros")
+public class CurvaJurosPublicada {
+
+    public static final int TAMANHO_MAXIMO_NOME = 100;
+
+    @Id
+    @Column(length = TAMANHO_MAXIMO_NOME)
+    private String nome;
+
+    /**
+     * Taxas mensais em porcentagem, uma por mês
+     */
+    @Column(name = "taxas_percentuais", nullable = false)
+    private double[] taxasPercentuais;
+
+    /**
+     * Incrementada a cada publicação; as instâncias comparam a versão para saber
+     * quando remontar a curva
+     */
+    @Version
+    private Long versao;
+
+    @Column(name = "atualizada_em", nullable = false)
+    private Instant atualizadaEm;
+}
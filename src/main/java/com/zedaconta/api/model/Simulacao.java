@@ -0,0 +1,60 @@
+package com.zedaconta.api.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * Simulação salva pelo usuário. Guarda apenas as entradas normalizadas e os
+ * totais; os resultados mensais são recalculados quando a simulação é reaberta.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "simulacoes", indexes = @Index(name = "idx_simulacoes_usuario_criado_em_id", columnList = "user_id, criado_em, id"))
+public class Simulacao {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "simulacoes_seq")
+    @SequenceGenerator(name = "simulacoes_seq", sequenceName = "simulacoes_seq", allocationSize = 50)
+    private Long id;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "valor_inicial", nullable = false)
+    private double valorInicial;
+
+    @Column(name = "aporte_mensal", nullable = false)
+    private double aporteMensal;
+
+    /**
+     * Taxa decimal ao mês, já normalizada
+     */
+    @Column(name = "taxa_juros_mensal", nullable = false)
+    private double taxaJurosMensal;
+
+    @Column(nullable = false)
+    private int meses;
+
+    @Column(name = "valor_final", nullable = false)
+    private double valorFinal;
+
+    @Column(nullable = false)
+    private double juros;
+
+    @Column(name = "total_investido", nullable = false)
+    private double totalInvestido;
+
+    @Column(name = "criado_em", nullable = false)
+    private Instant criadoEm;
+}
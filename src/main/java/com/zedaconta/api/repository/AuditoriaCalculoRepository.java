@@ -0,0 +1,9 @@
+package com.zedaconta.api.repository;
+
+import com.zedaconta.api.model.AuditoriaCalculo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AuditoriaCalculoRepository extends JpaRepository<AuditoriaCalculo, Long> {
+}
@@ -0,0 +1,25 @@
+package com.zedaconta.api.repository;
+
+import com.zedaconta.api.model.CurvaJurosPublicada;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface CurvaJurosPublicadaRepository extends JpaRepository<CurvaJurosPublicada, String> {
+    /**
+     * Nome e versão de cada curva, sem carregar as taxas
+     */
+    @Transactional(readOnly = true)
+    @Query("select c.nome as nome, c.versao as versao from CurvaJurosPublicada c")
+    List<VersaoCurva> findVersoes();
+
+    interface VersaoCurva {
+        String getNome();
+
+        Long getVersao();
+    }
+}
@@ -0,0 +1,23 @@
+package com.zedaconta.api.repository;
+
+import com.zedaconta.api.model.Simulacao;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface SimulacaoRepository extends JpaRepository<Simulacao, Long> {
+    /**
+     * Percorre o índice (user_id, criado_em, id) na ordem da listagem, incluindo
+     * o desempate por id, sem etapa de ordenação no banco
+     */
+    @Transactional(readOnly = true)
+    Page<Simulacao> findByUserIdOrderByCriadoEmDescIdDesc(Long userId, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    Optional<Simulacao> findByIdAndUserId(Long id, Long userId);
+}
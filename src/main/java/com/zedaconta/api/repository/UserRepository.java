@@ -2,13 +2,32 @@ package com.zedaconta.api.repository;
 
 import com.zedaconta.api.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    /**
+     * Read-only so login lookups are served by the replica
+     */
+    @Transactional(readOnly = true)
     Optional<User> findByUsername(String username);
-    boolean existsByUsername(String username);
-    boolean existsByEmail(String email);
+
+    /**
+     * Read-write transaction, so the lookup runs on the primary; for checks that
+     * cannot accept replica lag, such as token revocation
+     */
+    @Transactional
+    @Query("select u from User u where u.id = :id")
+    Optional<User> findByIdOnPrimary(@Param("id") Long id);
+
+    @Transactional(readOnly = true)
+    @Query("select u.username from User u where u.username in :usernames")
+    Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
 }
@@ -0,0 +1,141 @@
+package com.zedaconta.api.security;
+
+import com.zedaconta.api.config.AccessLogProperties;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes one key=value line per request to the "access" logger. Only a sample of
+ * successful requests is logged; errors and slow requests are always logged.
+ * The "access" logger goes through an async appender (see logback-spring.xml),
+ * so request threads never wait on log I/O.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("access");
+    private static final String REDACTED = "[REDACTED]";
+
+    private final AccessLogProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled() || !accessLog.isInfoEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (failure == null && request.isAsyncStarted()) {
+                // Streaming responses: the status and duration are only final when the async request completes
+                request.getAsyncContext().addListener(new CompletionListener(request, response, start));
+            } else {
+                complete(request, response, start, failure);
+            }
+        }
+    }
+
+    private void complete(HttpServletRequest request, HttpServletResponse response, long start, Throwable failure) {
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+        
+        boolean error = failure != null || status >= 400;
+        boolean slow = durationMillis >= properties.getSlowThreshold().toMillis();
+        if (error || slow || ThreadLocalRandom.current().nextDouble() < properties.getSampleRate()) {
+            accessLog.info(format(request, status, durationMillis, failure));
+        }
+    }
+
+    private String format(HttpServletRequest request, int status, long durationMillis, Throwable failure) {
+        StringBuilder line = new StringBuilder(256)
+                .append("method=").append(request.getMethod())
+                .append(" uri=").append(request.getRequestURI())
+                .append(" status=").append(status)
+                .append(" duration_ms=").append(durationMillis)
+                .append(" remote=").append(request.getRemoteAddr());
+        
+        for (String header : properties.getHeaders()) {
+            String value = request.getHeader(header);
+            if (value != null) {
+                line.append(' ').append(header.toLowerCase()).append('=');
+                quote(line, isRedacted(header) ? REDACTED : value);
+            }
+        }
+        if (failure != null) {
+            line.append(" error=").append(failure.getClass().getSimpleName());
+        }
+        return line.toString();
+    }
+
+    private boolean isRedacted(String header) {
+        for (String redacted : properties.getRedactedHeaders()) {
+            if (redacted.equalsIgnoreCase(header)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void quote(StringBuilder line, String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c >= ' ') {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    @RequiredArgsConstructor
+    private class CompletionListener implements AsyncListener {
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long start;
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            complete(request, response, start, null);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.zedaconta.api.security;
+
+import com.zedaconta.api.config.CalculadoraProperties;
+import com.zedaconta.api.service.AuditoriaCalculoService;
+import com.zedaconta.api.service.DetalhesAuditoria;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Audita toda chamada aos endpoints da calculadora com o status final, inclusive
+ * as recusadas pelo limite de taxa, pela autorização ou por erro no cálculo.
+ * Roda na cadeia de segurança depois da autenticação e antes do limite de taxa;
+ * o endpoint, quando alcançado, completa a operação e as entradas pelo
+ * {@link DetalhesAuditoria} da requisição.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditoriaCalculoFilter extends OncePerRequestFilter {
+
+    private static final String PREFIXO = "/calculadora/";
+
+    private final AuditoriaCalculoService auditoriaCalculoService;
+    private final CalculadoraProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.getAuditoria().isHabilitada() || !request.getServletPath().startsWith(PREFIXO);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long inicio = System.nanoTime();
+        DetalhesAuditoria detalhes = new DetalhesAuditoria(request.getServletPath().substring(PREFIXO.length()).replace('/', '-'));
+        request.setAttribute(DetalhesAuditoria.ATRIBUTO, detalhes);
+
+        boolean falhou = false;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            falhou = true;
+            throw e;
+        } finally {
+            // O contexto de segurança ainda está preenchido aqui, mas não na conclusão assíncrona
+            String usuario = AuditoriaCalculoService.usuarioAtual();
+            if (!falhou && request.isAsyncStarted()) {
+                // Streaming: o status e a duração só são finais quando a resposta assíncrona termina
+                request.getAsyncContext().addListener(new ConclusaoListener(usuario, detalhes, response, inicio));
+            } else {
+                auditoriaCalculoService.registrar(usuario, detalhes, inicio,
+                        falhou ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus());
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private class ConclusaoListener implements AsyncListener {
+        private final String usuario;
+        private final DetalhesAuditoria detalhes;
+        private final HttpServletResponse response;
+        private final long inicio;
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            auditoriaCalculoService.registrar(usuario, detalhes, inicio, response.getStatus());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.zedaconta.api.security;
+
+import com.zedaconta.api.model.Role;
+import lombok.Value;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Principal rebuilt from the JWT claims, so authenticated requests
+ * do not need to load the user from the database.
+ */
+@Value
+public class AuthenticatedUser implements AuthenticatedPrincipal {
+    Long id;
+    String username;
+    Role role;
+    long tokenVersion;
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+}
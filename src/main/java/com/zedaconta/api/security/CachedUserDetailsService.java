@@ -0,0 +1,49 @@
+package com.zedaconta.api.security;
+
+import com.zedaconta.api.cache.CacheStats;
+import com.zedaconta.api.cache.LruCache;
+import com.zedaconta.api.service.UserChangedEvent;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Caching decorator for a {@link UserDetailsService}, bounded by size and TTL.
+ * Once a {@link UserChangedEvent} commits, the entry is replaced by the user the
+ * event carries, so a disabled user cannot log in with a stale cached copy and
+ * the next login does not depend on the replica having caught up. Lookups still
+ * in flight when the change commits are not cached. Unknown usernames are not cached.
+ * <p>
+ * The cached {@link UserDetails} instances are shared, which is only safe
+ * because they are not {@code CredentialsContainer}s and therefore are not
+ * erased after authentication.
+ */
+public class CachedUserDetailsService implements UserDetailsService {
+
+    private final UserDetailsService delegate;
+    private final LruCache<String, UserDetails> cache;
+
+    public CachedUserDetailsService(UserDetailsService delegate, int maxSize, Duration ttl) {
+        this.delegate = delegate;
+        this.cache = new LruCache<>(maxSize, ttl);
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return cache.getOrCompute(username, delegate::loadUserByUsername);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        // The event carries the state just committed on the primary
+        cache.put(event.getUser().getUsername(), event.getUser());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,114 @@
+package com.zedaconta.api.security;
+
+import com.zedaconta.api.config.CalculadoraProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limita a taxa de requisições aos endpoints da calculadora por cliente, que é o
+ * usuário autenticado via JWT ou, na falta dele, o IP de origem. O cabeçalho Origin
+ * não identifica o cliente, já que qualquer um pode forjá-lo.
+ * <p>
+ * Cada cliente tem um balde de fichas representado por um único AtomicLong com o
+ * instante teórico de chegada (GCRA), atualizado por CAS, sem locks. Clientes cujo
+ * balde está cheio há mais de {@code tempoOcioso} são removidos periodicamente.
+ */
+@Slf4j
+@Component
+public class CalculadoraRateLimitFilter extends OncePerRequestFilter {
+
+    private final CalculadoraProperties.Limite limite;
+    private final long intervaloNanos;
+    private final long toleranciaNanos;
+    private final ConcurrentHashMap<String, AtomicLong> baldes = new ConcurrentHashMap<>();
+    private final LongAdder permitidas = new LongAdder();
+    private final LongAdder rejeitadas = new LongAdder();
+
+    public CalculadoraRateLimitFilter(CalculadoraProperties properties) {
+        this.limite = properties.getLimite();
+        this.intervaloNanos = (long) (TimeUnit.SECONDS.toNanos(1) / limite.getReposicaoPorSegundo());
+        this.toleranciaNanos = intervaloNanos * limite.getCapacidade();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !limite.isHabilitado() || !request.getServletPath().startsWith("/calculadora/");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        
+        long agora = System.nanoTime();
+        AtomicLong balde = baldes.computeIfAbsent(chaveCliente(request), chave -> new AtomicLong(agora));
+        
+        // Instante teórico de chegada: o balde está cheio enquanto ele não passar de "agora"
+        long chegadaAtual;
+        long novaChegada;
+        do {
+            chegadaAtual = balde.get();
+            novaChegada = (chegadaAtual - agora > 0 ? chegadaAtual : agora) + intervaloNanos;
+            if (novaChegada - agora > toleranciaNanos) {
+                rejeitadas.increment();
+                rejeitar(response, novaChegada - agora - toleranciaNanos);
+                return;
+            }
+        } while (!balde.compareAndSet(chegadaAtual, novaChegada));
+        
+        permitidas.increment();
+        response.setHeader("X-RateLimit-Limit", String.valueOf(limite.getCapacidade()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf((toleranciaNanos - (novaChegada - agora)) / intervaloNanos));
+        filterChain.doFilter(request, response);
+    }
+
+    private void rejeitar(HttpServletResponse response, long esperaNanos) throws IOException {
+        long esperaSegundos = Math.max(1, (esperaNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("X-RateLimit-Limit", String.valueOf(limite.getCapacidade()));
+        response.setHeader("X-RateLimit-Remaining", "0");
+        response.setHeader("Retry-After", String.valueOf(esperaSegundos));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"message\":\"Limite de requisições excedido\",\"timestamp\":" + System.currentTimeMillis() + "}");
+    }
+
+    private static String chaveCliente(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return "usuario:" + user.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    /**
+     * Remove os clientes ociosos. Um balde cheio não guarda estado nenhum, então
+     * removê-lo não altera o limite do cliente.
+     */
+    @Scheduled(fixedDelayString = "${calculadora.limite.intervalo-limpeza:60000}")
+    public void removerOciosos() {
+        long limiteOcioso = System.nanoTime() - limite.getTempoOcioso().toNanos();
+        baldes.values().removeIf(balde -> balde.get() - limiteOcioso < 0);
+    }
+
+    public RateLimitStats stats() {
+        return new RateLimitStats(baldes.size(), limite.getCapacidade(), limite.getReposicaoPorSegundo(),
+                permitidas.sum(), rejeitadas.sum());
+    }
+}
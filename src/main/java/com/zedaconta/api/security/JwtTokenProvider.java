@@ -1,5 +1,7 @@
 package com.zedaconta.api.security;
 
+import com.zedaconta.api.model.Role;
+import com.zedaconta.api.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -7,14 +9,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
@@ -27,18 +32,38 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private long validityInMilliseconds;
 
-    private final UserDetailsService userDetailsService;
+    @Value("${jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize;
+
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private final TokenVersionRegistry tokenVersionRegistry;
     
     private Key key;
 
+    // Immutable and thread-safe, shared by every request
+    private JwtParser parser;
+
+    // Digest of already verified tokens -> principal; lock-free reads on every request,
+    // expired entries are dropped on read and by the periodic sweep
+    private final ConcurrentHashMap<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
     @PostConstruct
     protected void init() {
         secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
         key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
-    public String createToken(String username) {
-        Claims claims = Jwts.claims().setSubject(username);
+    public String createToken(User user) {
+        Claims claims = Jwts.claims().setSubject(user.getUsername());
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(ROLE_CLAIM, user.getRole().name());
+        claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion());
         
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
@@ -51,31 +76,95 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(getUsername(token));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    /**
+     * Validates the token and builds its authentication from the claims in a single pass,
+     * without loading the user. Tokens seen before are looked up by digest and skip
+     * signature verification; revocation is still checked against the in-memory
+     * {@link TokenVersionRegistry} on every call.
+     *
+     * @return the authentication, or {@code null} when the token is invalid, expired or revoked
+     */
+    public Authentication resolveAuthentication(String token) {
+        String digest = digest(token);
+        AuthenticatedUser user = cachedUser(digest);
+        
+        if (user == null) {
+            Claims claims = parseClaims(token);
+            if (claims == null) {
+                return null;
+            }
+            user = toAuthenticatedUser(claims);
+            if (user == null) {
+                return null;
+            }
+            // When full, new tokens are verified on every request until the sweep frees room
+            if (verifiedTokens.size() < verifiedCacheSize) {
+                verifiedTokens.put(digest, new VerifiedToken(user, claims.getExpiration().getTime()));
+            }
+        }
+        
+        if (!tokenVersionRegistry.isCurrent(user.getId(), user.getTokenVersion())) {
+            log.debug("Revoked JWT token for user {}", user.getUsername());
+            return null;
+        }
+        
+        return new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.verified-cache-cleanup-interval:60000}")
+    public void evictExpiredTokens() {
+        long now = System.currentTimeMillis();
+        verifiedTokens.values().removeIf(verified -> verified.isExpired(now));
     }
 
-    public String getUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    private AuthenticatedUser cachedUser(String digest) {
+        VerifiedToken verified = verifiedTokens.get(digest);
+        if (verified == null) {
+            return null;
+        }
+        if (verified.isExpired(System.currentTimeMillis())) {
+            verifiedTokens.remove(digest, verified);
+            return null;
+        }
+        return verified.user();
     }
 
-    public boolean validateToken(String token) {
+    private AuthenticatedUser toAuthenticatedUser(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        Number tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Number.class);
+        
+        if (userId == null || role == null || tokenVersion == null) {
+            log.debug("JWT token without user claims for subject {}", claims.getSubject());
+            return null;
+        }
+        
+        return new AuthenticatedUser(userId.longValue(), claims.getSubject(), Role.valueOf(role), tokenVersion.longValue());
+    }
+
+    private Claims parseClaims(String token) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            
-            return !claims.getBody().getExpiration().before(new Date());
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return claims.getExpiration().before(new Date()) ? null : claims;
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return null;
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record VerifiedToken(AuthenticatedUser user, long expiresAtMillis) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAtMillis;
         }
     }
 }
@@ -0,0 +1,17 @@
+package com.zedaconta.api.security;
+
+import lombok.Getter;
+
+/**
+ * Thrown when the password hashing pool and its queue are full.
+ */
+@Getter
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingRejectedException(long retryAfterSeconds) {
+        super("Password hashing capacity exhausted");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,15 @@
+package com.zedaconta.api.security;
+
+import lombok.Value;
+
+@Value
+public class PasswordHashingStats {
+    int threads;
+    int activeThreads;
+    int queueDepth;
+    int queueCapacity;
+    long completed;
+    long rejected;
+    double averageLatencyMillis;
+    double maxLatencyMillis;
+}
@@ -0,0 +1,12 @@
+package com.zedaconta.api.security;
+
+import lombok.Value;
+
+@Value
+public class RateLimitStats {
+    int trackedClients;
+    int capacity;
+    double refillPerSecond;
+    long allowed;
+    long rejected;
+}
@@ -1,45 +0,0 @@
-package com.zedaconta.api.security;
-
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.Ordered;
-import org.springframework.core.annotation.Order;
-import org.springframework.stereotype.Component;
-import org.springframework.web.filter.OncePerRequestFilter;
-
-import java.io.IOException;
-import java.util.Enumeration;
-
-import org.springframework.lang.NonNull;
-
-@Slf4j
-@Component
-@Order(Ordered.HIGHEST_PRECEDENCE)
-public class RequestDebugFilter extends OncePerRequestFilter {
-
-    @Override
-    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
-            throws ServletException, IOException {
-        
-        log.info("=== REQUEST DEBUG INFO ===");
-        log.info("Method: {}", request.getMethod());
-        log.info("URI: {}", request.getRequestURI());
-        log.info("Content Type: {}", request.getContentType());
-        
-        log.info("Headers:");
-        Enumeration<String> headerNames = request.getHeaderNames();
-        while (headerNames.hasMoreElements()) {
-            String headerName = headerNames.nextElement();
-            log.info("{}: {}", headerName, request.getHeader(headerName));
-        }
-        
-        // Continue with the filter chain
-        filterChain.doFilter(request, response);
-        
-        // Log response status
-        log.info("Response Status: {}", response.getStatus());
-    }
-}
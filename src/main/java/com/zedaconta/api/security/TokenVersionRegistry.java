@@ -0,0 +1,94 @@
+package com.zedaconta.api.security;
+
+import com.zedaconta.api.model.User;
+import com.zedaconta.api.repository.UserRepository;
+import com.zedaconta.api.service.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of each user's current token version. A token is only accepted
+ * while the version in its claims matches; bumping the version (or disabling the
+ * user) revokes every token issued before.
+ * <p>
+ * Versions are loaded from the primary and kept up to date from committed
+ * {@link UserChangedEvent}s on this instance. Changes made through another
+ * instance are picked up when the entry expires, or immediately when a token
+ * carries a newer version than the one cached. Reads are lock-free; expired
+ * entries are swept periodically and the map stops taking new users once full.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final ConcurrentHashMap<Long, CachedVersion> versions = new ConcurrentHashMap<>();
+
+    public TokenVersionRegistry(UserRepository userRepository,
+                                @Value("${security.token-versions.max-size:10000}") int maxSize,
+                                @Value("${security.token-versions.ttl:1m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        long now = System.currentTimeMillis();
+        CachedVersion cached = versions.get(userId);
+        // A newer claim means the version was bumped through another instance
+        if (cached == null || cached.isExpired(now) || tokenVersion > cached.tokenVersion()) {
+            cached = load(userId, now);
+        }
+        return cached.enabled() && cached.tokenVersion() == tokenVersion;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        User user = event.getUser();
+        store(user.getId(), CachedVersion.of(user, System.currentTimeMillis() + ttlMillis));
+    }
+
+    @Scheduled(fixedDelayString = "${security.token-versions.cleanup-interval:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        versions.values().removeIf(cached -> cached.isExpired(now));
+    }
+
+    private CachedVersion load(Long userId, long now) {
+        CachedVersion loaded = userRepository.findByIdOnPrimary(userId)
+                .map(user -> CachedVersion.of(user, now + ttlMillis))
+                .orElseGet(() -> new CachedVersion(-1L, false, now + ttlMillis));
+        return store(userId, loaded);
+    }
+
+    /**
+     * Versions only grow, so a load that read the row before a concurrent change
+     * committed cannot replace the newer version stored by the event
+     */
+    private CachedVersion store(Long userId, CachedVersion candidate) {
+        if (versions.size() >= maxSize && !versions.containsKey(userId)) {
+            return candidate;
+        }
+        return versions.merge(userId, candidate,
+                (current, loaded) -> loaded.tokenVersion() >= current.tokenVersion() ? loaded : current);
+    }
+
+    private record CachedVersion(long tokenVersion, boolean enabled, long expiresAtMillis) {
+
+        static CachedVersion of(User user, long expiresAtMillis) {
+            return new CachedVersion(user.getTokenVersion(), user.isEnabled(), expiresAtMillis);
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.zedaconta.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zedaconta.api.config.CalculadoraProperties;
+import com.zedaconta.api.model.AuditoriaCalculo;
+import com.zedaconta.api.repository.AuditoriaCalculoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Auditoria das chamadas à calculadora com gravação assíncrona (write-behind).
+ * Cada chamada é registrada com o status da resposta pelo
+ * {@link com.zedaconta.api.security.AuditoriaCalculoFilter}; os endpoints só
+ * descrevem a operação. As requisições apenas enfileiram o evento numa fila limitada; uma thread
+ * gravadora junta os eventos e grava em lotes JDBC quando o lote enche ou
+ * quando o {@code intervalo} expira. Com a fila cheia o evento é descartado,
+ * imediatamente ou após uma espera curta, conforme a política configurada.
+ * No desligamento a fila é esvaziada antes de o contexto fechar; se o prazo
+ * acabar, a thread gravadora é interrompida.
+ */
+@Slf4j
+@Service
+public class AuditoriaCalculoService {
+
+    private final AuditoriaCalculoRepository auditoriaCalculoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final CalculadoraProperties.Auditoria configuracao;
+    private final BlockingQueue<EventoAuditoria> fila;
+    private final Thread gravador;
+
+    private final LongAdder enfileirados = new LongAdder();
+    private final LongAdder descartados = new LongAdder();
+    private final LongAdder gravados = new LongAdder();
+    private final LongAdder lotesGravados = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder nanosGravacao = new LongAdder();
+
+    private volatile boolean executando = true;
+
+    public AuditoriaCalculoService(AuditoriaCalculoRepository auditoriaCalculoRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   ObjectMapper objectMapper,
+                                   CalculadoraProperties properties) {
+        this.auditoriaCalculoRepository = auditoriaCalculoRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.configuracao = properties.getAuditoria();
+        this.fila = new ArrayBlockingQueue<>(configuracao.getCapacidadeFila());
+        this.gravador = new Thread(this::gravarContinuamente, "auditoria-gravador");
+        // Nunca segura a JVM aberta, mesmo que uma gravação trave no desligamento
+        this.gravador.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        if (configuracao.isHabilitada()) {
+            gravador.start();
+        }
+    }
+
+    /**
+     * Descreve a chamada em andamento para o registro que o filtro de auditoria
+     * grava ao final. Fora de uma requisição auditada o retorno é descartado.
+     */
+    public DetalhesAuditoria descrever(String operacao, Object entradas, int linhasResultado) {
+        RequestAttributes atributos = RequestContextHolder.getRequestAttributes();
+        Object atual = atributos != null
+                ? atributos.getAttribute(DetalhesAuditoria.ATRIBUTO, RequestAttributes.SCOPE_REQUEST)
+                : null;
+        DetalhesAuditoria detalhes = atual instanceof DetalhesAuditoria d ? d : new DetalhesAuditoria(operacao);
+        detalhes.setOperacao(operacao);
+        detalhes.setEntradas(entradas);
+        detalhes.setLinhasResultado(linhasResultado);
+        return detalhes;
+    }
+
+    /**
+     * Enfileira o evento sem gravar. As entradas só são serializadas pela thread gravadora.
+     */
+    public void registrar(String usuario, DetalhesAuditoria detalhes, long inicioNanos, int status) {
+        if (!configuracao.isHabilitada()) {
+            return;
+        }
+        
+        EventoAuditoria evento = new EventoAuditoria(usuario, detalhes.getOperacao(), detalhes.getEntradas(),
+                System.nanoTime() - inicioNanos, detalhes.getLinhasResultado(), status, Instant.now());
+        
+        boolean aceito;
+        if (configuracao.getPolitica() == CalculadoraProperties.PoliticaFilaCheia.BLOQUEAR) {
+            try {
+                aceito = fila.offer(evento, configuracao.getEsperaMaxima().toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                aceito = false;
+            }
+        } else {
+            aceito = fila.offer(evento);
+        }
+        
+        if (aceito) {
+            enfileirados.increment();
+        } else {
+            descartados.increment();
+        }
+    }
+
+    /**
+     * Usuário da requisição atual para o registro de auditoria
+     */
+    public static String usuarioAtual() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonimo";
+    }
+
+    public EstatisticasAuditoria estatisticas() {
+        long lotes = lotesGravados.sum();
+        return new EstatisticasAuditoria(
+                fila.size(),
+                configuracao.getCapacidadeFila(),
+                enfileirados.sum(),
+                descartados.sum(),
+                gravados.sum(),
+                lotes,
+                falhas.sum(),
+                lotes == 0 ? 0.0 : nanosGravacao.sum() / (double) lotes / 1_000_000);
+    }
+
+    @PreDestroy
+    public void desligar() throws InterruptedException {
+        executando = false;
+        if (gravador.isAlive()) {
+            gravador.join(configuracao.getEsperaDesligamento().toMillis());
+        }
+        if (gravador.isAlive()) {
+            log.warn("Gravador de auditoria não terminou em {}; interrompendo", configuracao.getEsperaDesligamento());
+            gravador.interrupt();
+        }
+        if (!fila.isEmpty()) {
+            log.warn("{} eventos de auditoria não foram gravados no desligamento", fila.size());
+        }
+    }
+
+    private void gravarContinuamente() {
+        int tamanhoLote = configuracao.getTamanhoLote();
+        long intervaloNanos = configuracao.getIntervalo().toNanos();
+        List<EventoAuditoria> lote = new ArrayList<>(tamanhoLote);
+        boolean interrompido = false;
+        
+        // Interrompido, grava só o lote em mãos e sai sem esvaziar a fila
+        while (!interrompido && (executando || !fila.isEmpty())) {
+            try {
+                EventoAuditoria primeiro = fila.poll(intervaloNanos, TimeUnit.NANOSECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                
+                // Completa o lote até o tamanho máximo ou até o prazo do primeiro evento
+                long prazo = System.nanoTime() + intervaloNanos;
+                while (lote.size() < tamanhoLote) {
+                    fila.drainTo(lote, tamanhoLote - lote.size());
+                    long restante = prazo - System.nanoTime();
+                    if (lote.size() >= tamanhoLote || restante <= 0 || !executando) {
+                        break;
+                    }
+                    EventoAuditoria proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+                    if (proximo == null) {
+                        break;
+                    }
+                    lote.add(proximo);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                interrompido = true;
+            }
+            
+            if (!lote.isEmpty()) {
+                gravar(lote);
+                lote.clear();
+            }
+        }
+    }
+
+    private void gravar(List<EventoAuditoria> lote) {
+        long inicio = System.nanoTime();
+        try {
+            List<AuditoriaCalculo> registros = lote.stream().map(this::paraRegistro).toList();
+            transactionTemplate.executeWithoutResult(status -> auditoriaCalculoRepository.saveAll(registros));
+            gravados.add(lote.size());
+            lotesGravados.increment();
+            nanosGravacao.add(System.nanoTime() - inicio);
+        } catch (RuntimeException e) {
+            falhas.add(lote.size());
+            log.warn("Falha ao gravar lote de {} eventos de auditoria", lote.size(), e);
+        }
+    }
+
+    private AuditoriaCalculo paraRegistro(EventoAuditoria evento) {
+        AuditoriaCalculo registro = new AuditoriaCalculo();
+        registro.setUsuario(evento.usuario());
+        registro.setOperacao(evento.operacao().length() > AuditoriaCalculo.TAMANHO_MAXIMO_OPERACAO
+                ? evento.operacao().substring(0, AuditoriaCalculo.TAMANHO_MAXIMO_OPERACAO)
+                : evento.operacao());
+        registro.setEntradas(serializar(evento.entradas()));
+        registro.setDuracaoMicros(evento.duracaoNanos() / 1_000);
+        registro.setLinhasResultado(evento.linhasResultado());
+        registro.setStatus(evento.status());
+        registro.setCriadoEm(evento.criadoEm());
+        return registro;
+    }
+
+    private String serializar(Object entradas) {
+        if (entradas == null) {
+            return null;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(entradas);
+            return json.length() > AuditoriaCalculo.TAMANHO_MAXIMO_ENTRADAS
+                    ? json.substring(0, AuditoriaCalculo.TAMANHO_MAXIMO_ENTRADAS)
+                    : json;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private record EventoAuditoria(String usuario, String operacao, Object entradas,
+                                   long duracaoNanos, int linhasResultado, int status, Instant criadoEm) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.zedaconta.api.service;
+
+import com.zedaconta.api.cache.CacheStats;
+import com.zedaconta.api.cache.LruCache;
+import com.zedaconta.api.config.CalculadoraProperties;
+import com.zedaconta.api.dto.CalculadoraJurosRequest;
+import com.zedaconta.api.dto.CalculadoraJurosResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+
+/**
+ * Cache das simulações completas, na frente do {@link CalculadoraJurosService}.
+ * A chave são as entradas já normalizadas, de modo que "12 meses" e "1 ano"
+ * compartilham a mesma entrada. Cada chamada recebe sua própria resposta, mas a
+ * lista de resultados mensais é compartilhada: nem a lista nem as linhas
+ * ({@link com.zedaconta.api.dto.ResultadoMensalDTO}) podem ser alteradas.
+ */
+@Component
+public class CalculadoraJurosCache {
+
+    private final CalculadoraJurosService calculadoraJurosService;
+    private final LruCache<ParametrosCalculo, CalculadoraJurosResponse> cache;
+    private final boolean habilitado;
+
+    public CalculadoraJurosCache(CalculadoraJurosService calculadoraJurosService, CalculadoraProperties properties) {
+        CalculadoraProperties.Cache configuracao = properties.getCache();
+        this.calculadoraJurosService = calculadoraJurosService;
+        this.cache = new LruCache<>(configuracao.getTamanhoMaximo(), configuracao.getTtl());
+        this.habilitado = configuracao.isHabilitado();
+    }
+
+    public CalculadoraJurosResponse calcularJurosCompostos(CalculadoraJurosRequest request) {
+        return calcularJurosCompostos(calculadoraJurosService.normalizar(request));
+    }
+
+    public CalculadoraJurosResponse calcularJurosCompostos(ParametrosCalculo parametros) {
+        if (!habilitado) {
+            return calculadoraJurosService.calcularJurosCompostos(parametros);
+        }
+        CalculadoraJurosResponse emCache = cache.getOrCompute(parametros, this::calcularParaCache);
+        return CalculadoraJurosResponse.builder()
+                .valorFinal(emCache.getValorFinal())
+                .juros(emCache.getJuros())
+                .totalInvestido(emCache.getTotalInvestido())
+                .resultadosMensais(emCache.getResultadosMensais())
+                .build();
+    }
+
+    private CalculadoraJurosResponse calcularParaCache(ParametrosCalculo parametros) {
+        CalculadoraJurosResponse response = calculadoraJurosService.calcularJurosCompostos(parametros);
+        response.setResultadosMensais(Collections.unmodifiableList(response.getResultadosMensais()));
+        return response;
+    }
+
+    public CacheStats estatisticas() {
+        return cache.stats();
+    }
+}
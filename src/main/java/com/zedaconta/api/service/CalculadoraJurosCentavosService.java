@@ -0,0 +1,130 @@
+package com.zedaconta.api.service;
+
+import com.zedaconta.api.dto.CalculadoraJurosRequest;
+import com.zedaconta.api.dto.CalculadoraJurosResponse;
+import com.zedaconta.api.dto.ResultadoMensalDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Motor alternativo em ponto fixo: todos os saldos são mantidos em centavos
+ * ({@code long}) e cada valor é arredondado uma única vez, quando nasce.
+ * <ul>
+ *     <li>valor inicial e aporte mensal são convertidos para centavos com arredondamento half-up;</li>
+ *     <li>os juros de cada mês são calculados sobre o saldo em centavos e arredondados half-up para o centavo;</li>
+ *     <li>saldo, total investido e total de juros são somas exatas desses centavos.</li>
+ * </ul>
+ * Com isso toda linha fecha exatamente (total = valor investido + total de juros)
+ * e o resultado é reprodutível ao centavo, sem a deriva entre linhas arredondadas
+ * e saldo sem arredondamento do motor em {@code double}. O laço não aloca nem
+ * faz boxing. Como o arredondamento mensal depende do caminho, este motor não
+ * tem atalho pela fórmula fechada.
+ * <p>
+ * Valores em centavos só são aceitos até {@link #CENTAVOS_MAXIMOS} (2<sup>53</sup>),
+ * faixa em que um {@code double} ainda representa cada centavo exatamente; fora
+ * dela, inclusive nos saldos acumulados, o cálculo é recusado com 422 em vez de
+ * devolver valores saturados ou com sinal trocado.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalculadoraJurosCentavosService {
+
+    static final double CENTAVOS_MAXIMOS = 0x1p53;
+
+    private final CalculadoraJurosService calculadoraJurosService;
+
+    public CalculadoraJurosResponse calcularJurosCompostos(CalculadoraJurosRequest request) {
+        ParametrosCalculo parametros = calculadoraJurosService.normalizar(request);
+        List<ResultadoMensalDTO> resultadosMensais = new ArrayList<>(parametros.getMeses() + 1);
+        
+        percorrerMeses(parametros, (mes, valorInvestido, juros, totalJuros, total) ->
+                resultadosMensais.add(ResultadoMensalDTO.builder()
+                        .mes(mes)
+                        .valorInvestido(valorInvestido)
+                        .juros(juros)
+                        .totalJuros(totalJuros)
+                        .total(total)
+                        .build()));
+        
+        ResultadoMensalDTO ultimo = resultadosMensais.get(resultadosMensais.size() - 1);
+        
+        return CalculadoraJurosResponse.builder()
+                .valorFinal(ultimo.getTotal())
+                .juros(ultimo.getTotalJuros())
+                .totalInvestido(ultimo.getValorInvestido())
+                .resultadosMensais(resultadosMensais)
+                .build();
+    }
+    
+    public void percorrerMeses(ParametrosCalculo parametros, ConsumidorResultadoMensal consumidor) {
+        double taxaJurosMensal = parametros.getTaxaJurosMensal();
+        long aporteMensal = paraCentavos(parametros.getAporteMensal());
+        
+        long montante = paraCentavos(parametros.getValorInicial());
+        long totalInvestido = montante;
+        long totalJuros = 0;
+        
+        // Mês 0 (situação inicial)
+        consumidor.aceitar(0, paraReais(totalInvestido), 0.0, 0.0, paraReais(montante));
+        
+        for (int mes = 1; mes <= parametros.getMeses(); mes++) {
+            long jurosMes = jurosDoMes(montante, taxaJurosMensal);
+            
+            montante = somar(montante, somar(jurosMes, aporteMensal));
+            totalInvestido = somar(totalInvestido, aporteMensal);
+            totalJuros = somar(totalJuros, jurosMes);
+            
+            consumidor.aceitar(mes, paraReais(totalInvestido), paraReais(jurosMes),
+                    paraReais(totalJuros), paraReais(montante));
+        }
+    }
+    
+    /**
+     * Juros do mês em centavos, arredondados half-up
+     */
+    static long jurosDoMes(long montanteEmCentavos, double taxaJurosMensal) {
+        return emCentavos(montanteEmCentavos * taxaJurosMensal);
+    }
+    
+    static long paraCentavos(double valor) {
+        return emCentavos(valor * 100.0);
+    }
+    
+    /**
+     * Arredonda somente dentro da faixa exata; {@link Math#round(double)} satura
+     * em {@link Long#MAX_VALUE} e transformaria um estouro em um valor plausível
+     */
+    private static long emCentavos(double centavos) {
+        if (!(Math.abs(centavos) <= CENTAVOS_MAXIMOS)) {
+            throw foraDoIntervalo();
+        }
+        return Math.round(centavos);
+    }
+    
+    private static long somar(long a, long b) {
+        long soma;
+        try {
+            soma = Math.addExact(a, b);
+        } catch (ArithmeticException e) {
+            throw foraDoIntervalo();
+        }
+        if (Math.abs(soma) > CENTAVOS_MAXIMOS) {
+            throw foraDoIntervalo();
+        }
+        return soma;
+    }
+    
+    private static ResponseStatusException foraDoIntervalo() {
+        return new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                "Valores da simulação excedem o limite do cálculo em centavos");
+    }
+    
+    static double paraReais(long centavos) {
+        return centavos / 100.0;
+    }
+}
@@ -1,9 +1,14 @@
 package com.zedaconta.api.service;
 
+import com.zedaconta.api.dto.CalculadoraJurosColunarResponse;
 import com.zedaconta.api.dto.CalculadoraJurosRequest;
 import com.zedaconta.api.dto.CalculadoraJurosResponse;
+import com.zedaconta.api.dto.Granularidade;
 import com.zedaconta.api.dto.ResultadoMensalDTO;
+import com.zedaconta.api.dto.ResultadosMensaisColunarDTO;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,76 +17,256 @@ import java.util.List;
 public class CalculadoraJurosService {
 
     public CalculadoraJurosResponse calcularJurosCompostos(CalculadoraJurosRequest request) {
-        // Normalizar taxa de juros para o período mensal se necessário
-        double taxaJurosMensal = normalizarTaxaJuros(request.getTaxaJuros(), request.getPeriodoJuros()) * 0.01; // Converter de porcentagem para decimal
+        return calcularJurosCompostos(normalizar(request));
+    }
+    
+    public CalculadoraJurosResponse calcularJurosCompostos(ParametrosCalculo parametros) {
+        // Lista para armazenar os resultados mensais (mês 0 incluso)
+        List<ResultadoMensalDTO> resultadosMensais = new ArrayList<>(parametros.getMeses() + 1);
         
-        // Normalizar o tempo de investimento para meses
-        int tempoEmMeses = normalizarTempoInvestimento(request.getTempoInvestimento(), request.getPeriodoInvestimento());
+        percorrerMeses(parametros, (mes, valorInvestido, juros, totalJuros, total) ->
+                resultadosMensais.add(ResultadoMensalDTO.builder()
+                        .mes(mes)
+                        .valorInvestido(valorInvestido)
+                        .juros(juros)
+                        .totalJuros(totalJuros)
+                        .total(total)
+                        .build()));
+        
+        // A última linha já traz os totais finais arredondados
+        ResultadoMensalDTO ultimo = resultadosMensais.get(resultadosMensais.size() - 1);
+        
+        return CalculadoraJurosResponse.builder()
+                .valorFinal(ultimo.getTotal())
+                .juros(ultimo.getTotalJuros())
+                .totalInvestido(ultimo.getValorInvestido())
+                .resultadosMensais(resultadosMensais)
+                .build();
+    }
+    
+    /**
+     * Calcula a simulação preenchendo diretamente arrays primitivos por coluna,
+     * sem criar um objeto por mês.
+     */
+    public CalculadoraJurosColunarResponse calcularJurosCompostosColunar(CalculadoraJurosRequest request) {
+        ParametrosCalculo parametros = normalizar(request);
+        int linhas = parametros.getMeses() + 1;
+        
+        double[] valoresInvestidos = new double[linhas];
+        double[] juros = new double[linhas];
+        double[] totaisJuros = new double[linhas];
+        double[] totais = new double[linhas];
+        
+        percorrerMeses(parametros, (mes, valorInvestido, jurosMes, totalJuros, total) -> {
+            valoresInvestidos[mes] = valorInvestido;
+            juros[mes] = jurosMes;
+            totaisJuros[mes] = totalJuros;
+            totais[mes] = total;
+        });
+        
+        int ultimo = linhas - 1;
+        
+        return CalculadoraJurosColunarResponse.builder()
+                .valorFinal(totais[ultimo])
+                .juros(totaisJuros[ultimo])
+                .totalInvestido(valoresInvestidos[ultimo])
+                .resultadosMensais(ResultadosMensaisColunarDTO.builder()
+                        .valorInvestido(valoresInvestidos)
+                        .juros(juros)
+                        .totalJuros(totaisJuros)
+                        .total(totais)
+                        .build())
+                .build();
+    }
+    
+    /**
+     * Executa o cálculo mês a mês, do mês 0 até o fim do horizonte, entregando
+     * cada linha já arredondada ao consumidor informado.
+     */
+    public void percorrerMeses(ParametrosCalculo parametros, ConsumidorResultadoMensal consumidor) {
+        percorrerMeses(parametros, new JanelaMeses(0, parametros.getMeses()), consumidor);
+    }
+    
+    /**
+     * Executa o cálculo apenas para os meses da janela informada. O estado do mês
+     * anterior à janela vem da fórmula fechada, sem percorrer os meses anteriores.
+     */
+    public void percorrerMeses(ParametrosCalculo parametros, JanelaMeses janela, ConsumidorResultadoMensal consumidor) {
+        percorrerMeses(parametros, janela, Granularidade.MENSAL, consumidor);
+    }
+    
+    /**
+     * Executa o cálculo da janela emitindo uma linha por período da granularidade:
+     * os juros do período são somados mês a mês sem arredondamento e a linha traz
+     * o saldo de fechamento do período. O último mês da janela sempre gera uma
+     * linha, mesmo que o período esteja incompleto.
+     */
+    public void percorrerMeses(ParametrosCalculo parametros, JanelaMeses janela, Granularidade granularidade,
+                               ConsumidorResultadoMensal consumidor) {
+        double taxaJurosMensal = parametros.getTaxaJurosMensal();
         
         // Cálculo de juros compostos com aportes mensais
-        double valorInicial = request.getValorInicial();
-        double aporteMensal = request.getValorMensal();
-        
-        // Lista para armazenar os resultados mensais
-        List<ResultadoMensalDTO> resultadosMensais = new ArrayList<>();
-        
-        // Valores iniciais
-        double montante = valorInicial;
-        double totalInvestido = valorInicial;
-        double totalJuros = 0.0;
-        
-        // Adicionar o mês 0 (situação inicial)
-        resultadosMensais.add(ResultadoMensalDTO.builder()
-                .mes(0)
-                .valorInvestido(arredondar(valorInicial))
-                .juros(0.0)
-                .totalJuros(0.0)
-                .total(arredondar(valorInicial))
-                .build());
+        double valorInicial = parametros.getValorInicial();
+        double aporteMensal = parametros.getAporteMensal();
+        
+        double montante;
+        double totalInvestido;
+        double totalJuros;
+        int primeiroMes;
+        
+        if (janela.mesInicial() == 0) {
+            // Valores iniciais
+            montante = valorInicial;
+            totalInvestido = valorInicial;
+            totalJuros = 0.0;
+            primeiroMes = 1;
+            
+            // Mês 0 (situação inicial)
+            consumidor.aceitar(0, PassoMensal.arredondar(valorInicial), 0.0, 0.0, PassoMensal.arredondar(valorInicial));
+        } else {
+            // Posicionar o estado no mês anterior à janela
+            int mesAnterior = janela.mesInicial() - 1;
+            montante = montanteNoMes(parametros, mesAnterior);
+            totalInvestido = valorInicial + aporteMensal * mesAnterior;
+            totalJuros = montante - totalInvestido;
+            primeiroMes = janela.mesInicial();
+        }
+        
+        int mesesPorPeriodo = granularidade.getMeses();
+        double jurosPeriodo = 0.0;
         
         // Calcular o montante mês a mês
-        for (int mes = 1; mes <= tempoEmMeses; mes++) {
+        for (int mes = primeiroMes; mes <= janela.mesFinal(); mes++) {
             // Calcular juros do mês
-            double jurosMes = montante * taxaJurosMensal;
-            
-            // Atualizar o montante com os juros
-            montante += jurosMes;
+            double jurosMes = PassoMensal.juros(montante, taxaJurosMensal);
             
-            // Adicionar o aporte mensal
-            montante += aporteMensal;
+            // Atualizar o montante com os juros e o aporte mensal
+            montante = PassoMensal.montanteAposMes(montante, jurosMes, aporteMensal);
             
             // Atualizar o total investido
             totalInvestido += aporteMensal;
             
             // Atualizar o total de juros
             totalJuros += jurosMes;
+            jurosPeriodo += jurosMes;
             
-            // Adicionar o resultado do mês à lista
-            resultadosMensais.add(ResultadoMensalDTO.builder()
-                    .mes(mes)
-                    .valorInvestido(arredondar(totalInvestido))
-                    .juros(arredondar(jurosMes))
-                    .totalJuros(arredondar(totalJuros))
-                    .total(arredondar(montante))
-                    .build());
+            // Emitir a linha no fechamento do período
+            if (mes % mesesPorPeriodo == 0 || mes == janela.mesFinal()) {
+                consumidor.aceitar(mes, PassoMensal.arredondar(totalInvestido), PassoMensal.arredondar(jurosPeriodo),
+                        PassoMensal.arredondar(totalJuros), PassoMensal.arredondar(montante));
+                jurosPeriodo = 0.0;
+            }
         }
+    }
+    
+    /**
+     * Calcula somente as linhas da janela de meses pedida, agregadas pela
+     * granularidade informada. Os totais da resposta continuam se referindo
+     * ao horizonte completo.
+     */
+    public CalculadoraJurosResponse calcularJurosCompostos(CalculadoraJurosRequest request,
+                                                          Integer mesInicial, Integer mesFinal,
+                                                          Granularidade granularidade) {
+        ParametrosCalculo parametros = normalizar(request);
+        JanelaMeses janela = resolverJanela(parametros, mesInicial, mesFinal);
         
-        return CalculadoraJurosResponse.builder()
-                .valorFinal(arredondar(montante))
-                .juros(arredondar(totalJuros))
-                .totalInvestido(arredondar(totalInvestido))
+        List<ResultadoMensalDTO> resultadosMensais = new ArrayList<>(janela.tamanho() / granularidade.getMeses() + 2);
+        percorrerMeses(parametros, janela, granularidade, (mes, valorInvestido, juros, totalJuros, total) ->
+                resultadosMensais.add(ResultadoMensalDTO.builder()
+                        .mes(mes)
+                        .valorInvestido(valorInvestido)
+                        .juros(juros)
+                        .totalJuros(totalJuros)
+                        .total(total)
+                        .build()));
+        
+        return totais(parametros)
                 .resultadosMensais(resultadosMensais)
                 .build();
     }
     
     /**
-     * Arredonda um valor para duas casas decimais
+     * Valida a janela pedida, assumindo o início e o fim do horizonte quando omitidos
      */
-    private double arredondar(double valor) {
-        return Math.round(valor * 100.0) / 100.0;
+    public JanelaMeses resolverJanela(ParametrosCalculo parametros, Integer mesInicial, Integer mesFinal) {
+        int inicio = mesInicial != null ? mesInicial : 0;
+        int fim = mesFinal != null ? Math.min(mesFinal, parametros.getMeses()) : parametros.getMeses();
+        
+        if (inicio < 0 || inicio > parametros.getMeses() || inicio > fim) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Janela de meses inválida: mesInicial deve estar entre 0 e mesFinal, dentro de 0.." + parametros.getMeses());
+        }
+        return new JanelaMeses(inicio, fim);
     }
     
-    private double normalizarTaxaJuros(double taxa, String periodo) {
+    /**
+     * Calcula apenas os totais da simulação, sem montar os resultados mensais.
+     * Usa a fórmula fechada da série de pagamentos, em tempo constante
+     * independentemente do horizonte.
+     * <p>
+     * Com valor final abaixo de R$ 100 bilhões ({@code 1e11}), os totais diferem
+     * da última linha do cálculo mês a mês em no máximo um centavo, e só quando o
+     * valor exato fica rente a meio centavo; acima disso o erro de ponto
+     * flutuante acumulado no laço pode passar de um centavo.
+     */
+    public CalculadoraJurosResponse calcularResumo(CalculadoraJurosRequest request) {
+        return calcularResumo(normalizar(request));
+    }
+    
+    public CalculadoraJurosResponse calcularResumo(ParametrosCalculo parametros) {
+        return totais(parametros).build();
+    }
+    
+    private CalculadoraJurosResponse.CalculadoraJurosResponseBuilder totais(ParametrosCalculo parametros) {
+        int meses = parametros.getMeses();
+        
+        double montante = montanteNoMes(parametros, meses);
+        double totalInvestido = parametros.getValorInicial() + parametros.getAporteMensal() * meses;
+        double totalJuros = montante - totalInvestido;
+        
+        return CalculadoraJurosResponse.builder()
+                .valorFinal(PassoMensal.arredondar(montante))
+                .juros(PassoMensal.arredondar(totalJuros))
+                .totalInvestido(PassoMensal.arredondar(totalInvestido));
+    }
+    
+    /**
+     * Normaliza a requisição para taxa decimal mensal e horizonte em meses
+     */
+    public ParametrosCalculo normalizar(CalculadoraJurosRequest request) {
+        return normalizar(request.getValorInicial(), request.getValorMensal(),
+                request.getTaxaJuros(), request.getPeriodoJuros(),
+                request.getTempoInvestimento(), request.getPeriodoInvestimento());
+    }
+    
+    public ParametrosCalculo normalizar(double valorInicial, double valorMensal,
+                                        double taxaJuros, String periodoJuros,
+                                        int tempoInvestimento, String periodoInvestimento) {
+        // Normalizar taxa de juros para o período mensal se necessário
+        double taxaJurosMensal = normalizarTaxaJuros(taxaJuros, periodoJuros) * 0.01; // Converter de porcentagem para decimal
+        
+        // Normalizar o tempo de investimento para meses
+        int tempoEmMeses = normalizarTempoInvestimento(tempoInvestimento, periodoInvestimento);
+        
+        return new ParametrosCalculo(valorInicial, valorMensal, taxaJurosMensal, tempoEmMeses);
+    }
+    
+    /**
+     * Montante ao final do mês informado pela fórmula fechada:
+     * M(n) = V0 * (1 + i)^n + A * ((1 + i)^n - 1) / i
+     */
+    double montanteNoMes(ParametrosCalculo parametros, int mes) {
+        double taxa = parametros.getTaxaJurosMensal();
+        if (taxa == 0.0) {
+            return parametros.getValorInicial() + parametros.getAporteMensal() * mes;
+        }
+        // expm1/log1p evitam perda de precisão com taxas pequenas
+        double crescimentoMenosUm = Math.expm1(mes * Math.log1p(taxa));
+        return parametros.getValorInicial() * (1 + crescimentoMenosUm)
+                + parametros.getAporteMensal() * crescimentoMenosUm / taxa;
+    }
+    
+    public double normalizarTaxaJuros(double taxa, String periodo) {
         switch (periodo.toLowerCase()) {
             case "anual":
                 return Math.pow(1 + taxa, 1.0/12) - 1; // Converter taxa anual para mensal
@@ -93,7 +278,25 @@ public class CalculadoraJurosService {
         }
     }
     
-    private int normalizarTempoInvestimento(int tempo, String periodo) {
+    /**
+     * Inversa de {@link #normalizarTaxaJuros} seguida da conversão para decimal:
+     * devolve, em porcentagem no período informado, a taxa que a normalização
+     * transforma na taxa decimal mensal recebida
+     */
+    public double desnormalizarTaxaJuros(double taxaJurosMensal, String periodo) {
+        double taxa = taxaJurosMensal * 100; // Converter de decimal para porcentagem
+        switch (periodo.toLowerCase()) {
+            case "anual":
+                return Math.pow(1 + taxa, 12) - 1;
+            case "diaria":
+                return Math.pow(1 + taxa, 1.0/30) - 1;
+            case "mensal":
+            default:
+                return taxa;
+        }
+    }
+    
+    public int normalizarTempoInvestimento(int tempo, String periodo) {
         switch (periodo.toLowerCase()) {
             case "ano":
             case "anos":
@@ -107,4 +310,22 @@ public class CalculadoraJurosService {
                 return tempo; // Tempo já está em meses
         }
     }
+    
+    /**
+     * Menor tempo no período informado que, normalizado, cobre ao menos os meses recebidos
+     */
+    public int tempoMinimoNoPeriodo(int meses, String periodo) {
+        switch (periodo.toLowerCase()) {
+            case "ano":
+            case "anos":
+                return (meses + 11) / 12;
+            case "dia":
+            case "dias":
+                return meses * 30;
+            case "mes":
+            case "meses":
+            default:
+                return meses;
+        }
+    }
 }
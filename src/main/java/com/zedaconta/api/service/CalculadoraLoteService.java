@@ -0,0 +1,80 @@
+package com.zedaconta.api.service;
+
+import com.zedaconta.api.config.CalculadoraProperties;
+import com.zedaconta.api.dto.CalculadoraJurosRequest;
+import com.zedaconta.api.dto.CalculadoraJurosResponse;
+import com.zedaconta.api.dto.CalculadoraLoteResponse;
+import com.zedaconta.api.dto.ItemLoteDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class CalculadoraLoteService {
+
+    private final CalculadoraJurosService calculadoraJurosService;
+    private final CalculadoraJurosCache calculadoraJurosCache;
+    private final CalculoParaleloExecutor calculoParaleloExecutor;
+    private final CalculadoraProperties calculadoraProperties;
+    private final Validator validator;
+
+    /**
+     * Calcula vários cenários em paralelo. Cada item é validado individualmente,
+     * de forma que um cenário inválido não impede o cálculo dos demais.
+     * Os itens retornam na mesma ordem da requisição.
+     */
+    public CalculadoraLoteResponse calcularLote(List<CalculadoraJurosRequest> requests, boolean resumo) {
+        int tamanhoMaximo = calculadoraProperties.getLote().getTamanhoMaximo();
+        if (requests.size() > tamanhoMaximo) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "O lote deve ter no máximo " + tamanhoMaximo + " cenários");
+        }
+        
+        List<ItemLoteDTO> itens = calculoParaleloExecutor.mapearEmOrdem(requests.size(),
+                indice -> calcularItem(indice, requests.get(indice), resumo));
+        
+        int comErro = (int) itens.stream().filter(item -> item.getErros() != null).count();
+        
+        return CalculadoraLoteResponse.builder()
+                .total(itens.size())
+                .comErro(comErro)
+                .itens(itens)
+                .build();
+    }
+    
+    private ItemLoteDTO calcularItem(int indice, CalculadoraJurosRequest request, boolean resumo) {
+        if (request == null) {
+            return ItemLoteDTO.builder()
+                    .indice(indice)
+                    .erros(List.of("cenário não informado"))
+                    .build();
+        }
+        
+        Set<ConstraintViolation<CalculadoraJurosRequest>> violacoes = validator.validate(request);
+        if (!violacoes.isEmpty()) {
+            return ItemLoteDTO.builder()
+                    .indice(indice)
+                    .erros(violacoes.stream()
+                            .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+                            .sorted()
+                            .toList())
+                    .build();
+        }
+        
+        CalculadoraJurosResponse resultado = resumo
+                ? calculadoraJurosService.calcularResumo(request)
+                : calculadoraJurosCache.calcularJurosCompostos(request);
+        
+        return ItemLoteDTO.builder()
+                .indice(indice)
+                .resultado(resultado)
+                .build();
+    }
+}
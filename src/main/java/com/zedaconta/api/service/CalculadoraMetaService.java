@@ -0,0 +1,213 @@
+package com.zedaconta.api.service;
+
+import com.zedaconta.api.dto.CalculadoraJurosResponse;
+import com.zedaconta.api.dto.CalculadoraMetaRequest;
+import com.zedaconta.api.dto.CalculadoraMetaResponse;
+import com.zedaconta.api.dto.IncognitaMeta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Busca de meta: encontra o aporte mensal, o tempo ou a taxa que levam a
+ * simulação ao valor final desejado, sem montar os resultados mensais.
+ * Aporte e tempo saem da fórmula fechada da série de pagamentos; a taxa,
+ * que não tem forma fechada, do método de Newton protegido por bisseção.
+ * As entradas passam pela mesma normalização da {@link CalculadoraJurosService}.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalculadoraMetaService {
+
+    /**
+     * Horizonte máximo aceito ao resolver o tempo (100 anos)
+     */
+    private static final int MESES_MAXIMOS = 1200;
+
+    /**
+     * Taxa mensal decimal máxima procurada (1000% ao mês)
+     */
+    private static final double TAXA_MAXIMA = 10.0;
+    private static final int ITERACOES_MAXIMAS = 100;
+    private static final double TOLERANCIA_RELATIVA = 1e-10;
+
+    private final CalculadoraJurosService calculadoraJurosService;
+
+    public CalculadoraMetaResponse resolver(CalculadoraMetaRequest request) {
+        IncognitaMeta incognita = IncognitaMeta.de(request.getIncognita());
+        exigirCampos(request, incognita);
+        
+        return switch (incognita) {
+            case VALOR_MENSAL -> resolverValorMensal(request);
+            case TEMPO_INVESTIMENTO -> resolverTempo(request);
+            case TAXA_JUROS -> resolverTaxa(request);
+        };
+    }
+
+    /**
+     * A = (M - V0 * (1 + i)^n) * i / ((1 + i)^n - 1), arredondado para cima no
+     * centavo para que a meta seja atingida
+     */
+    private CalculadoraMetaResponse resolverValorMensal(CalculadoraMetaRequest request) {
+        ParametrosCalculo semAporte = normalizar(request, 0.0, request.getTaxaJuros(), request.getTempoInvestimento());
+        double taxa = semAporte.getTaxaJurosMensal();
+        int meses = semAporte.getMeses();
+        if (meses <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O tempo de investimento deve ter ao menos um mês");
+        }
+        
+        // Montante apenas do valor inicial; o que faltar vem dos aportes
+        double faltante = request.getValorFinal() - calculadoraJurosService.montanteNoMes(semAporte, meses);
+        double fatorAportes = taxa == 0.0 ? meses : Math.expm1(meses * Math.log1p(taxa)) / taxa;
+        double aporte = Math.max(0.0, Math.ceil(faltante / fatorAportes * 100.0 - 1e-6) / 100.0);
+        
+        ParametrosCalculo solucao = new ParametrosCalculo(semAporte.getValorInicial(), aporte, taxa, meses);
+        return resposta(IncognitaMeta.VALOR_MENSAL, aporte, null, solucao);
+    }
+
+    /**
+     * n = ln((M + A/i) / (V0 + A/i)) / ln(1 + i), arredondado para cima no período da requisição
+     */
+    private CalculadoraMetaResponse resolverTempo(CalculadoraMetaRequest request) {
+        ParametrosCalculo base = normalizar(request, request.getValorMensal(), request.getTaxaJuros(), 0);
+        double valorInicial = base.getValorInicial();
+        double aporte = base.getAporteMensal();
+        double taxa = base.getTaxaJurosMensal();
+        double meta = request.getValorFinal();
+        
+        double meses;
+        if (valorInicial >= meta) {
+            meses = 0;
+        } else if (taxa == 0.0) {
+            meses = aporte > 0 ? (meta - valorInicial) / aporte : Double.POSITIVE_INFINITY;
+        } else if (valorInicial == 0.0 && aporte == 0.0) {
+            meses = Double.POSITIVE_INFINITY;
+        } else {
+            double aportesSobreTaxa = aporte / taxa;
+            meses = Math.log((meta + aportesSobreTaxa) / (valorInicial + aportesSobreTaxa)) / Math.log1p(taxa);
+        }
+        
+        if (!(meses <= MESES_MAXIMOS)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Meta não atingível em até " + MESES_MAXIMOS / 12 + " anos");
+        }
+        
+        // Tolerância para não pular um mês inteiro por erro de arredondamento
+        int mesesNecessarios = (int) Math.ceil(meses - 1e-9);
+        int tempo = calculadoraJurosService.tempoMinimoNoPeriodo(mesesNecessarios, request.getPeriodoInvestimento());
+        int mesesNormalizados = calculadoraJurosService.normalizarTempoInvestimento(tempo, request.getPeriodoInvestimento());
+        
+        ParametrosCalculo solucao = new ParametrosCalculo(valorInicial, aporte, taxa, mesesNormalizados);
+        return resposta(IncognitaMeta.TEMPO_INVESTIMENTO, (double) tempo, null, solucao);
+    }
+
+    /**
+     * Resolve f(i) = M(i) - meta = 0 para a taxa mensal i. f é crescente em i, então
+     * o intervalo [0, TAXA_MAXIMA] contém a raiz; cada passo de Newton que sai do
+     * intervalo atual é substituído por uma bisseção.
+     */
+    private CalculadoraMetaResponse resolverTaxa(CalculadoraMetaRequest request) {
+        ParametrosCalculo base = normalizar(request, request.getValorMensal(), 0.0, request.getTempoInvestimento());
+        double valorInicial = base.getValorInicial();
+        double aporte = base.getAporteMensal();
+        int meses = base.getMeses();
+        double meta = request.getValorFinal();
+        
+        if (meses <= 0 || valorInicial + aporte * meses <= 0) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "Sem valores investidos não há taxa que atinja a meta");
+        }
+        
+        double inferior = 0.0;
+        double superior = TAXA_MAXIMA;
+        if (montante(valorInicial, aporte, inferior, meses) >= meta) {
+            // Os aportes sem juros já atingem a meta
+            return respostaTaxa(request, base, 0.0, 0);
+        }
+        if (montante(valorInicial, aporte, superior, meses) < meta) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "Meta não atingível com taxas razoáveis");
+        }
+        
+        // Estimativa inicial: taxa que leva o total investido à meta em juros compostos simples
+        double taxa = Math.min(superior / 2, Math.max(1e-6,
+                Math.pow(meta / (valorInicial + aporte * meses), 2.0 / (meses + 1)) - 1));
+        int iteracoes = 0;
+        while (iteracoes < ITERACOES_MAXIMAS) {
+            iteracoes++;
+            double erro = montante(valorInicial, aporte, taxa, meses) - meta;
+            if (Math.abs(erro) <= meta * TOLERANCIA_RELATIVA) {
+                break;
+            }
+            if (erro > 0) {
+                superior = taxa;
+            } else {
+                inferior = taxa;
+            }
+            
+            double proxima = taxa - erro / derivada(valorInicial, aporte, taxa, meses);
+            if (!(proxima > inferior && proxima < superior)) {
+                proxima = (inferior + superior) / 2;
+            }
+            if (Math.abs(proxima - taxa) <= Math.ulp(taxa)) {
+                taxa = proxima;
+                break;
+            }
+            taxa = proxima;
+        }
+        
+        return respostaTaxa(request, base, taxa, iteracoes);
+    }
+
+    private CalculadoraMetaResponse respostaTaxa(CalculadoraMetaRequest request, ParametrosCalculo base,
+                                                 double taxaMensal, int iteracoes) {
+        ParametrosCalculo solucao = new ParametrosCalculo(base.getValorInicial(), base.getAporteMensal(), taxaMensal, base.getMeses());
+        double taxa = calculadoraJurosService.desnormalizarTaxaJuros(taxaMensal, request.getPeriodoJuros());
+        return resposta(IncognitaMeta.TAXA_JUROS, taxa, iteracoes, solucao);
+    }
+
+    private double montante(double valorInicial, double aporte, double taxa, int meses) {
+        return calculadoraJurosService.montanteNoMes(new ParametrosCalculo(valorInicial, aporte, taxa, meses), meses);
+    }
+
+    /**
+     * dM/di = n * (1 + i)^(n-1) * (V0 + A/i) - A * ((1 + i)^n - 1) / i^2
+     */
+    private static double derivada(double valorInicial, double aporte, double taxa, int meses) {
+        double crescimento = Math.exp((meses - 1) * Math.log1p(taxa));
+        if (taxa < 1e-9) {
+            // Limite em i -> 0: derivada de A * ((1 + i)^n - 1) / i é A * n * (n - 1) / 2
+            return meses * crescimento * valorInicial + aporte * meses * (meses - 1) / 2.0;
+        }
+        double crescimentoMenosUm = Math.expm1(meses * Math.log1p(taxa));
+        return meses * crescimento * (valorInicial + aporte / taxa) - aporte * crescimentoMenosUm / (taxa * taxa);
+    }
+
+    private ParametrosCalculo normalizar(CalculadoraMetaRequest request, double valorMensal, double taxaJuros, int tempo) {
+        return calculadoraJurosService.normalizar(request.getValorInicial(), valorMensal,
+                taxaJuros, request.getPeriodoJuros(), tempo, request.getPeriodoInvestimento());
+    }
+
+    private CalculadoraMetaResponse resposta(IncognitaMeta incognita, double valor, Integer iteracoes, ParametrosCalculo solucao) {
+        CalculadoraJurosResponse totais = calculadoraJurosService.calcularResumo(solucao);
+        return CalculadoraMetaResponse.builder()
+                .incognita(incognita.getCampo())
+                .valor(valor)
+                .iteracoes(iteracoes)
+                .valorFinal(totais.getValorFinal())
+                .juros(totais.getJuros())
+                .totalInvestido(totais.getTotalInvestido())
+                .build();
+    }
+
+    private static void exigirCampos(CalculadoraMetaRequest request, IncognitaMeta incognita) {
+        if (incognita != IncognitaMeta.VALOR_MENSAL && request.getValorMensal() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "valorMensal é obrigatório");
+        }
+        if (incognita != IncognitaMeta.TAXA_JUROS && request.getTaxaJuros() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "taxaJuros é obrigatória");
+        }
+        if (incognita != IncognitaMeta.TEMPO_INVESTIMENTO && request.getTempoInvestimento() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "tempoInvestimento é obrigatório");
+        }
+    }
+}
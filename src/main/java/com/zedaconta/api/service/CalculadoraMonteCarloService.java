@@ -0,0 +1,253 @@
+package com.zedaconta.api.service;
+
+import com.zedaconta.api.config.CalculadoraProperties;
+import com.zedaconta.api.dto.CalculadoraMonteCarloRequest;
+import com.zedaconta.api.dto.CalculadoraMonteCarloResponse;
+import com.zedaconta.api.dto.Granularidade;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Simulação de Monte Carlo com taxa mensal aleatória, normal com a média e a
+ * volatilidade informadas. Cada mês aplica o mesmo {@link PassoMensal} do
+ * cálculo mês a mês da {@link CalculadoraJurosService}, com uma taxa sorteada
+ * por caminho.
+ * <p>
+ * O estado é um único {@code double[]} com o montante de cada caminho, avançado
+ * período a período: os blocos de caminhos avançam em paralelo, cada um com seu
+ * {@link SplittableRandom}, e ao fim de cada período os percentis são extraídos
+ * por seleção sobre esse array. A memória é proporcional ao número de caminhos,
+ * e não a caminhos x meses.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalculadoraMonteCarloService {
+
+    /**
+     * Caminhos por bloco. Fixo, para que a mesma semente gere os mesmos
+     * resultados independentemente do paralelismo configurado.
+     */
+    private static final int CAMINHOS_POR_BLOCO = 1024;
+
+    private final CalculadoraJurosService calculadoraJurosService;
+    private final CalculoParaleloExecutor calculoParaleloExecutor;
+    private final CalculadoraProperties calculadoraProperties;
+
+    public CalculadoraMonteCarloResponse simular(CalculadoraMonteCarloRequest request) {
+        ParametrosCalculo parametros = calculadoraJurosService.normalizar(request.getValorInicial(),
+                request.getValorMensal(), request.getTaxaJuros(), request.getPeriodoJuros(),
+                request.getTempoInvestimento(), request.getPeriodoInvestimento());
+        int caminhos = request.getCaminhos() != null ? request.getCaminhos() : 10000;
+        int meses = parametros.getMeses();
+        validarLimites(caminhos, meses);
+        
+        double taxaMedia = parametros.getTaxaJurosMensal();
+        double volatilidade = normalizarVolatilidade(request.getVolatilidade(), request.getPeriodoJuros());
+        double aporte = parametros.getAporteMensal();
+        
+        double[] montantes = new double[caminhos];
+        Arrays.fill(montantes, parametros.getValorInicial());
+        
+        SplittableRandom raiz = request.getSemente() != null
+                ? new SplittableRandom(request.getSemente())
+                : new SplittableRandom();
+        int blocos = (caminhos + CAMINHOS_POR_BLOCO - 1) / CAMINHOS_POR_BLOCO;
+        SplittableRandom[] geradores = new SplittableRandom[blocos];
+        for (int b = 0; b < blocos; b++) {
+            geradores[b] = raiz.split();
+        }
+        
+        int[] pontos = pontosDeSaida(meses, Granularidade.de(request.getGranularidade()));
+        FaixasPercentis faixas = new FaixasPercentis(pontos.length, caminhos);
+        double[] valorInvestido = new double[pontos.length];
+        
+        int mesAtual = 0;
+        for (int ponto = 0; ponto < pontos.length; ponto++) {
+            int mesesNoPeriodo = pontos[ponto] - mesAtual;
+            if (mesesNoPeriodo > 0) {
+                calculoParaleloExecutor.executarEmParalelo(blocos, bloco -> avancar(montantes,
+                        bloco * CAMINHOS_POR_BLOCO, Math.min((bloco + 1) * CAMINHOS_POR_BLOCO, caminhos),
+                        mesesNoPeriodo, taxaMedia, volatilidade, aporte, geradores[bloco]));
+            }
+            mesAtual = pontos[ponto];
+            faixas.registrar(ponto, montantes);
+            valorInvestido[ponto] = PassoMensal.arredondar(parametros.getValorInicial() + aporte * mesAtual);
+        }
+        
+        return CalculadoraMonteCarloResponse.builder()
+                .caminhos(caminhos)
+                .meses(pontos)
+                .valorInvestido(valorInvestido)
+                .p5(faixas.p5)
+                .p25(faixas.p25)
+                .p50(faixas.p50)
+                .p75(faixas.p75)
+                .p95(faixas.p95)
+                .valorFinalTaxaMedia(calculadoraJurosService.calcularResumo(parametros).getValorFinal())
+                .build();
+    }
+
+    /**
+     * Avança os caminhos [inicio, fim) pelo número de meses, mês a mês para todos
+     * os caminhos do bloco, percorrendo o array em sequência
+     */
+    private static void avancar(double[] montantes, int inicio, int fim, int meses,
+                                double taxaMedia, double volatilidade, double aporte, SplittableRandom gerador) {
+        for (int mes = 0; mes < meses; mes++) {
+            for (int caminho = inicio; caminho < fim; caminho++) {
+                // Perda máxima de 100% no mês
+                double taxa = Math.max(-1.0, taxaMedia + volatilidade * gerador.nextGaussian());
+                double montante = montantes[caminho];
+                montantes[caminho] = PassoMensal.montanteAposMes(montante, PassoMensal.juros(montante, taxa), aporte);
+            }
+        }
+    }
+
+    private void validarLimites(int caminhos, int meses) {
+        CalculadoraProperties.MonteCarlo limites = calculadoraProperties.getMonteCarlo();
+        if (caminhos > limites.getCaminhosMaximos()) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "A simulação deve ter no máximo " + limites.getCaminhosMaximos() + " caminhos");
+        }
+        if ((long) caminhos * meses > limites.getPassosMaximos()) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Caminhos x meses deve ser no máximo " + limites.getPassosMaximos());
+        }
+    }
+
+    /**
+     * Mês 0, o fim de cada período da granularidade e o último mês
+     */
+    private static int[] pontosDeSaida(int meses, Granularidade granularidade) {
+        int passo = granularidade.getMeses();
+        int quantidade = 1 + meses / passo + (meses % passo != 0 ? 1 : 0);
+        int[] pontos = new int[quantidade];
+        for (int i = 1; i < quantidade; i++) {
+            pontos[i] = Math.min(i * passo, meses);
+        }
+        return pontos;
+    }
+
+    /**
+     * Converte o desvio padrão em porcentagem no período para decimal ao mês,
+     * pela regra da raiz do tempo
+     */
+    private static double normalizarVolatilidade(double volatilidade, String periodo) {
+        double mensal = switch (periodo.toLowerCase()) {
+            case "anual" -> volatilidade / Math.sqrt(12);
+            case "diaria" -> volatilidade * Math.sqrt(30);
+            default -> volatilidade;
+        };
+        return mensal * 0.01;
+    }
+
+    /**
+     * Percentis por ponto de saída. Usa um único buffer de trabalho do tamanho
+     * do número de caminhos, reaproveitado em todos os pontos.
+     */
+    private static final class FaixasPercentis {
+        final double[] p5;
+        final double[] p25;
+        final double[] p50;
+        final double[] p75;
+        final double[] p95;
+        private final double[] trabalho;
+
+        FaixasPercentis(int pontos, int caminhos) {
+            p5 = new double[pontos];
+            p25 = new double[pontos];
+            p50 = new double[pontos];
+            p75 = new double[pontos];
+            p95 = new double[pontos];
+            trabalho = new double[caminhos];
+        }
+
+        /**
+         * Seleção em O(n): cada percentil é buscado apenas na parte do array
+         * delimitada pelos percentis já encontrados
+         */
+        void registrar(int ponto, double[] montantes) {
+            System.arraycopy(montantes, 0, trabalho, 0, trabalho.length);
+            int n = trabalho.length;
+            int k5 = posicao(0.05, n);
+            int k25 = posicao(0.25, n);
+            int k50 = posicao(0.50, n);
+            int k75 = posicao(0.75, n);
+            int k95 = posicao(0.95, n);
+            
+            selecionar(trabalho, 0, n - 1, k50);
+            selecionar(trabalho, 0, k50, k25);
+            selecionar(trabalho, 0, k25, k5);
+            selecionar(trabalho, k50, n - 1, k75);
+            selecionar(trabalho, k75, n - 1, k95);
+            
+            p5[ponto] = PassoMensal.arredondar(trabalho[k5]);
+            p25[ponto] = PassoMensal.arredondar(trabalho[k25]);
+            p50[ponto] = PassoMensal.arredondar(trabalho[k50]);
+            p75[ponto] = PassoMensal.arredondar(trabalho[k75]);
+            p95[ponto] = PassoMensal.arredondar(trabalho[k95]);
+        }
+
+        /**
+         * Posição do percentil pelo método do posto mais próximo
+         */
+        private static int posicao(double percentil, int n) {
+            return Math.max(0, (int) Math.ceil(percentil * n) - 1);
+        }
+
+        /**
+         * Quickselect: coloca em a[k] o valor que ocupa essa posição em [esquerda, direita]
+         * ordenado, com os menores à esquerda e os maiores à direita
+         */
+        private static void selecionar(double[] a, int esquerda, int direita, int k) {
+            while (direita > esquerda) {
+                int meio = (esquerda + direita) >>> 1;
+                // Mediana de três como pivô
+                if (a[meio] < a[esquerda]) {
+                    trocar(a, meio, esquerda);
+                }
+                if (a[direita] < a[esquerda]) {
+                    trocar(a, direita, esquerda);
+                }
+                if (a[direita] < a[meio]) {
+                    trocar(a, direita, meio);
+                }
+                double pivo = a[meio];
+                
+                int i = esquerda;
+                int j = direita;
+                while (i <= j) {
+                    while (a[i] < pivo) {
+                        i++;
+                    }
+                    while (a[j] > pivo) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        trocar(a, i, j);
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j) {
+                    direita = j;
+                } else if (k >= i) {
+                    esquerda = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private static void trocar(double[] a, int i, int j) {
+            double temp = a[i];
+            a[i] = a[j];
+            a[j] = temp;
+        }
+    }
+}
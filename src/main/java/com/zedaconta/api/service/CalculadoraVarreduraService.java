@@ -0,0 +1,118 @@
+package com.zedaconta.api.service;
+
+import com.zedaconta.api.config.CalculadoraProperties;
+import com.zedaconta.api.dto.CalculadoraVarreduraRequest;
+import com.zedaconta.api.dto.CalculadoraVarreduraResponse;
+import com.zedaconta.api.dto.ResultadoMensalDTO;
+import com.zedaconta.api.dto.SerieVarreduraDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CalculadoraVarreduraService {
+
+    private final CalculadoraJurosService calculadoraJurosService;
+    private final CalculoParaleloExecutor calculoParaleloExecutor;
+    private final CalculadoraProperties calculadoraProperties;
+
+    /**
+     * Calcula a grade de cenários taxas x aportes x tempos. Para cada par
+     * taxa/aporte o cálculo mês a mês roda uma única vez até o maior horizonte,
+     * e os horizontes menores são lidos como prefixos dessa mesma execução.
+     * As taxas são calculadas em paralelo.
+     */
+    public CalculadoraVarreduraResponse calcularVarredura(CalculadoraVarreduraRequest request) {
+        List<Double> taxas = request.getTaxasJuros();
+        List<Double> aportes = request.getValoresMensais();
+        List<Integer> tempos = request.getTemposInvestimento();
+        
+        long pontos = (long) taxas.size() * aportes.size() * tempos.size();
+        int pontosMaximos = calculadoraProperties.getVarredura().getPontosMaximos();
+        if (pontos > pontosMaximos) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "A varredura deve ter no máximo " + pontosMaximos + " combinações");
+        }
+        
+        // Horizonte de cada tempo em meses e o maior deles
+        int[] meses = new int[tempos.size()];
+        int maiorHorizonte = 0;
+        for (int t = 0; t < meses.length; t++) {
+            meses[t] = calculadoraJurosService.normalizarTempoInvestimento(tempos.get(t), request.getPeriodoInvestimento());
+            maiorHorizonte = Math.max(maiorHorizonte, meses[t]);
+        }
+        int horizonte = maiorHorizonte;
+        
+        List<ResultadoTaxa> porTaxa = calculoParaleloExecutor.mapearEmOrdem(taxas.size(),
+                indice -> calcularTaxa(request, taxas.get(indice), meses, horizonte));
+        
+        double[][][] valoresFinais = new double[taxas.size()][][];
+        List<SerieVarreduraDTO> series = request.isIncluirResultadosMensais() ? new ArrayList<>() : null;
+        for (int i = 0; i < porTaxa.size(); i++) {
+            valoresFinais[i] = porTaxa.get(i).valoresFinais();
+            if (series != null) {
+                series.addAll(porTaxa.get(i).series());
+            }
+        }
+        
+        return CalculadoraVarreduraResponse.builder()
+                .taxasJuros(taxas)
+                .valoresMensais(aportes)
+                .temposInvestimento(tempos)
+                .valoresFinais(valoresFinais)
+                .series(series)
+                .build();
+    }
+    
+    private ResultadoTaxa calcularTaxa(CalculadoraVarreduraRequest request, double taxa, int[] meses, int horizonte) {
+        List<Double> aportes = request.getValoresMensais();
+        double[][] valoresFinais = new double[aportes.size()][meses.length];
+        List<SerieVarreduraDTO> series = new ArrayList<>();
+        
+        for (int a = 0; a < aportes.size(); a++) {
+            ParametrosCalculo parametros = calculadoraJurosService.normalizar(request.getValorInicial(), aportes.get(a),
+                    taxa, request.getPeriodoJuros(), horizonte, "meses");
+            
+            double[] finaisDoAporte = valoresFinais[a];
+            List<ResultadoMensalDTO> resultadosMensais = request.isIncluirResultadosMensais()
+                    ? new ArrayList<>(horizonte + 1)
+                    : null;
+            
+            calculadoraJurosService.percorrerMeses(parametros, (mes, valorInvestido, juros, totalJuros, total) -> {
+                // Recorta o valor final de cada horizonte pedido dentro da execução mais longa
+                for (int t = 0; t < meses.length; t++) {
+                    if (meses[t] == mes) {
+                        finaisDoAporte[t] = total;
+                    }
+                }
+                if (resultadosMensais != null) {
+                    resultadosMensais.add(ResultadoMensalDTO.builder()
+                            .mes(mes)
+                            .valorInvestido(valorInvestido)
+                            .juros(juros)
+                            .totalJuros(totalJuros)
+                            .total(total)
+                            .build());
+                }
+            });
+            
+            if (resultadosMensais != null) {
+                series.add(SerieVarreduraDTO.builder()
+                        .taxaJuros(taxa)
+                        .valorMensal(aportes.get(a))
+                        .resultadosMensais(resultadosMensais)
+                        .build());
+            }
+        }
+        
+        return new ResultadoTaxa(valoresFinais, series);
+    }
+    
+    private record ResultadoTaxa(double[][] valoresFinais, List<SerieVarreduraDTO> series) {
+    }
+}
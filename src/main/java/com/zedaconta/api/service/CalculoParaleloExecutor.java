@@ -0,0 +1,54 @@
+package com.zedaconta.api.service;
+
+import com.zedaconta.api.config.CalculadoraProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Pool fork-join dedicado aos cálculos da calculadora, com paralelismo limitado
+ * por {@code calculadora.paralelismo}. Mantém o trabalho pesado fora do pool
+ * comum da JVM e das threads do Tomcat.
+ */
+@Component
+public class CalculoParaleloExecutor {
+
+    private final ForkJoinPool pool;
+
+    public CalculoParaleloExecutor(CalculadoraProperties properties) {
+        this.pool = new ForkJoinPool(Math.max(1, properties.getParalelismo()));
+    }
+
+    /**
+     * Aplica a função a cada índice de 0 a quantidade - 1 em paralelo,
+     * devolvendo os resultados na ordem dos índices.
+     */
+    public <T> List<T> mapearEmOrdem(int quantidade, IntFunction<T> funcao) {
+        return pool.submit(() -> IntStream.range(0, quantidade)
+                        .parallel()
+                        .mapToObj(funcao)
+                        .toList())
+                .join();
+    }
+
+    /**
+     * Executa a ação para cada índice de 0 a quantidade - 1 em paralelo e
+     * aguarda todas terminarem.
+     */
+    public void executarEmParalelo(int quantidade, IntConsumer acao) {
+        pool.submit(() -> IntStream.range(0, quantidade)
+                        .parallel()
+                        .forEach(acao))
+                .join();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        pool.shutdown();
+    }
+}
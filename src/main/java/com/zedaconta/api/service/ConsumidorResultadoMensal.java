@@ -0,0 +1,11 @@
+package com.zedaconta.api.service;
+
+/**
+ * Recebe cada linha do cálculo mês a mês com valores primitivos,
+ * permitindo montar a saída sem objetos intermediários por mês.
+ */
+@FunctionalInterface
+public interface ConsumidorResultadoMensal {
+
+    void aceitar(int mes, double valorInvestido, double juros, double totalJuros, double total);
+}
@@ -0,0 +1,75 @@
+package com.zedaconta.api.service;
+
+import java.time.Instant;
+
+/**
+ * Curva de juros mensal imutável (Selic, CDI, IPCA...) com os fatores
+ * acumulados pré-calculados, compartilhada entre requisições.
+ * <p>
+ * Com G[t] = (1 + r0) ... (1 + r(t-1)) e H[t] = 1/G[1] + ... + 1/G[t], o montante
+ * após h meses a partir do mês s, com aporte A no fim de cada mês (o mesmo passo
+ * do cálculo mês a mês: juros sobre o montante, depois o aporte), é
+ * M = G[s+h] * (V0 / G[s] + A * (H[s+h] - H[s])), em tempo constante.
+ */
+public final class CurvaJuros {
+
+    private final String nome;
+    private final double[] taxasMensais;
+    private final double[] crescimentoAcumulado;
+    private final double[] somaInversos;
+    private final long versao;
+    private final Instant atualizadaEm;
+
+    /**
+     * @param taxasPercentuais taxas mensais em porcentagem, uma por mês
+     * @param versao           versão da publicação gravada no banco
+     */
+    public CurvaJuros(String nome, double[] taxasPercentuais, long versao, Instant atualizadaEm) {
+        int meses = taxasPercentuais.length;
+        this.nome = nome;
+        this.versao = versao;
+        this.atualizadaEm = atualizadaEm;
+        this.taxasMensais = new double[meses];
+        this.crescimentoAcumulado = new double[meses + 1];
+        this.somaInversos = new double[meses + 1];
+        
+        crescimentoAcumulado[0] = 1.0;
+        for (int t = 0; t < meses; t++) {
+            taxasMensais[t] = taxasPercentuais[t] * 0.01; // Converter de porcentagem para decimal
+            crescimentoAcumulado[t + 1] = crescimentoAcumulado[t] * (1 + taxasMensais[t]);
+            somaInversos[t + 1] = somaInversos[t] + 1 / crescimentoAcumulado[t + 1];
+        }
+    }
+
+    /**
+     * Montante após {@code meses} meses a partir de {@code mesInicial} da curva
+     */
+    public double montante(double valorInicial, double aporteMensal, int mesInicial, int meses) {
+        int mesFinal = mesInicial + meses;
+        return crescimentoAcumulado[mesFinal] * (valorInicial / crescimentoAcumulado[mesInicial]
+                + aporteMensal * (somaInversos[mesFinal] - somaInversos[mesInicial]));
+    }
+
+    /**
+     * Taxa decimal equivalente ao período inteiro da curva
+     */
+    public double taxaAcumulada() {
+        return crescimentoAcumulado[taxasMensais.length] - 1;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public int getMeses() {
+        return taxasMensais.length;
+    }
+
+    public long getVersao() {
+        return versao;
+    }
+
+    public Instant getAtualizadaEm() {
+        return atualizadaEm;
+    }
+}
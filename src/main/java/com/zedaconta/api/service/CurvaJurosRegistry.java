@@ -0,0 +1,125 @@
+package com.zedaconta.api.service;
+
+import com.zedaconta.api.config.CalculadoraProperties;
+import com.zedaconta.api.model.CurvaJurosPublicada;
+import com.zedaconta.api.repository.CurvaJurosPublicadaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Curvas de juros publicadas, por nome. As taxas ficam gravadas na tabela
+ * {@code curva_juros}; cada instância mantém em memória as curvas já montadas
+ * e as lê sem ir ao banco.
+ * <p>
+ * Uma publicação monta a nova curva por completo e só então a troca no mapa, de
+ * forma que requisições em andamento continuam com a versão que já obtiveram e
+ * as seguintes veem a nova inteira. Curvas publicadas por outra instância são
+ * carregadas no primeiro uso e as atualizações são trazidas pela sincronização
+ * periódica, que remonta apenas as curvas cuja versão mudou.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CurvaJurosRegistry {
+
+    private final ConcurrentHashMap<String, CurvaJuros> curvas = new ConcurrentHashMap<>();
+    private final CurvaJurosPublicadaRepository curvaJurosPublicadaRepository;
+    private final CalculadoraProperties calculadoraProperties;
+
+    @Transactional
+    public CurvaJuros publicar(String nome, List<Double> taxasPercentuais) {
+        CalculadoraProperties.Curvas limites = calculadoraProperties.getCurvas();
+        if (nome.length() > CurvaJurosPublicada.TAMANHO_MAXIMO_NOME) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "O nome da curva deve ter no máximo " + CurvaJurosPublicada.TAMANHO_MAXIMO_NOME + " caracteres");
+        }
+        if (taxasPercentuais.size() > limites.getMesesMaximos()) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "A curva deve ter no máximo " + limites.getMesesMaximos() + " meses");
+        }
+
+        CurvaJurosPublicada publicada = curvaJurosPublicadaRepository.findById(nome).orElse(null);
+        if (publicada == null) {
+            if (curvaJurosPublicadaRepository.count() >= limites.getQuantidadeMaxima()) {
+                throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                        "No máximo " + limites.getQuantidadeMaxima() + " curvas podem ser cadastradas");
+            }
+            publicada = new CurvaJurosPublicada();
+            publicada.setNome(nome);
+        }
+        publicada.setTaxasPercentuais(taxasPercentuais.stream().mapToDouble(Double::doubleValue).toArray());
+        publicada.setAtualizadaEm(Instant.now());
+        publicada = curvaJurosPublicadaRepository.saveAndFlush(publicada);
+
+        // Só entra no mapa depois que a publicação for gravada
+        CurvaJuros curva = montar(publicada);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                trocar(curva);
+            }
+        });
+        return curva;
+    }
+
+    public CurvaJuros obter(String nome) {
+        CurvaJuros curva = curvas.get(nome);
+        if (curva == null) {
+            // Publicada por outra instância ou antes de um reinício
+            curva = curvaJurosPublicadaRepository.findById(nome)
+                    .map(publicada -> trocar(montar(publicada)))
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                            "Curva de juros não encontrada: " + nome));
+        }
+        return curva;
+    }
+
+    public List<CurvaJuros> listar() {
+        return curvas.values().stream()
+                .sorted(Comparator.comparing(CurvaJuros::getNome))
+                .toList();
+    }
+
+    /**
+     * Carrega as curvas novas ou com versão diferente da que está em memória.
+     * Roda também logo após a inicialização, carregando as curvas já gravadas.
+     */
+    @Scheduled(fixedDelayString = "${calculadora.curvas.intervalo-sincronizacao:30000}")
+    public void sincronizar() {
+        for (CurvaJurosPublicadaRepository.VersaoCurva versao : curvaJurosPublicadaRepository.findVersoes()) {
+            CurvaJuros atual = curvas.get(versao.getNome());
+            if (atual == null || atual.getVersao() < versao.getVersao()) {
+                curvaJurosPublicadaRepository.findById(versao.getNome())
+                        .ifPresent(publicada -> {
+                            trocar(montar(publicada));
+                            log.debug("Curva de juros {} carregada na versão {}", publicada.getNome(), publicada.getVersao());
+                        });
+            }
+        }
+    }
+
+    /**
+     * Nunca volta para uma versão anterior, mesmo que uma leitura atrasada chegue depois
+     */
+    private CurvaJuros trocar(CurvaJuros nova) {
+        return curvas.merge(nova.getNome(), nova,
+                (atual, recebida) -> recebida.getVersao() >= atual.getVersao() ? recebida : atual);
+    }
+
+    private static CurvaJuros montar(CurvaJurosPublicada publicada) {
+        return new CurvaJuros(publicada.getNome(), publicada.getTaxasPercentuais(),
+                publicada.getVersao(), publicada.getAtualizadaEm());
+    }
+}
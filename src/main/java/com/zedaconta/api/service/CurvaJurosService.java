@@ -0,0 +1,85 @@
+package com.zedaconta.api.service;
+
+import com.zedaconta.api.dto.CalculadoraJurosResponse;
+import com.zedaconta.api.dto.CurvaJurosDTO;
+import com.zedaconta.api.dto.CurvaJurosSimulacaoRequest;
+import com.zedaconta.api.dto.ResultadoMensalDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CurvaJurosService {
+
+    private final CurvaJurosRegistry curvaJurosRegistry;
+    private final CalculadoraJurosService calculadoraJurosService;
+
+    public CurvaJurosDTO publicar(String nome, List<Double> taxas) {
+        return paraDTO(curvaJurosRegistry.publicar(nome, taxas));
+    }
+
+    public List<CurvaJurosDTO> listar() {
+        return curvaJurosRegistry.listar().stream()
+                .map(CurvaJurosService::paraDTO)
+                .toList();
+    }
+
+    /**
+     * Simula aportes sobre a curva a partir de {@code mesInicial}. Os totais saem
+     * dos fatores acumulados da curva, sem percorrer os meses.
+     */
+    public CalculadoraJurosResponse simular(String nome, CurvaJurosSimulacaoRequest request) {
+        // A mesma curva é usada do início ao fim, mesmo que seja atualizada durante o cálculo
+        CurvaJuros curva = curvaJurosRegistry.obter(nome);
+        int mesInicial = request.getMesInicial() != null ? request.getMesInicial() : 0;
+        int meses = calculadoraJurosService.normalizarTempoInvestimento(request.getTempoInvestimento(), request.getPeriodoInvestimento());
+        if (mesInicial + meses > curva.getMeses()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A curva " + nome + " tem " + curva.getMeses() + " meses; a simulação vai até o mês " + (mesInicial + meses));
+        }
+        
+        double valorInicial = request.getValorInicial();
+        double aporte = request.getValorMensal();
+        double montante = curva.montante(valorInicial, aporte, mesInicial, meses);
+        double totalInvestido = valorInicial + aporte * meses;
+        
+        List<ResultadoMensalDTO> resultadosMensais = null;
+        if (request.isIncluirResultadosMensais()) {
+            resultadosMensais = new ArrayList<>(meses + 1);
+            double anterior = valorInicial;
+            for (int mes = 0; mes <= meses; mes++) {
+                double total = curva.montante(valorInicial, aporte, mesInicial, mes);
+                double investido = valorInicial + aporte * mes;
+                resultadosMensais.add(ResultadoMensalDTO.builder()
+                        .mes(mes)
+                        .valorInvestido(PassoMensal.arredondar(investido))
+                        .juros(PassoMensal.arredondar(mes == 0 ? 0.0 : total - anterior - aporte))
+                        .totalJuros(PassoMensal.arredondar(total - investido))
+                        .total(PassoMensal.arredondar(total))
+                        .build());
+                anterior = total;
+            }
+        }
+        
+        return CalculadoraJurosResponse.builder()
+                .valorFinal(PassoMensal.arredondar(montante))
+                .juros(PassoMensal.arredondar(montante - totalInvestido))
+                .totalInvestido(PassoMensal.arredondar(totalInvestido))
+                .resultadosMensais(resultadosMensais)
+                .build();
+    }
+
+    private static CurvaJurosDTO paraDTO(CurvaJuros curva) {
+        return CurvaJurosDTO.builder()
+                .nome(curva.getNome())
+                .meses(curva.getMeses())
+                .taxaAcumulada(Math.round(curva.taxaAcumulada() * 100 * 10000.0) / 10000.0)
+                .atualizadaEm(curva.getAtualizadaEm())
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.zedaconta.api.service;
+
+import lombok.Data;
+
+/**
+ * O que o endpoint informa para o registro de auditoria da chamada em andamento.
+ * O filtro de auditoria cria um por requisição e grava o registro ao final,
+ * mesmo que o endpoint nunca seja alcançado.
+ */
+@Data
+public class DetalhesAuditoria {
+
+    public static final String ATRIBUTO = DetalhesAuditoria.class.getName();
+
+    private volatile String operacao;
+    private volatile Object entradas;
+    private volatile int linhasResultado;
+
+    public DetalhesAuditoria(String operacao) {
+        this.operacao = operacao;
+    }
+}
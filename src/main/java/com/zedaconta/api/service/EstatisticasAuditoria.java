@@ -0,0 +1,15 @@
+package com.zedaconta.api.service;
+
+import lombok.Value;
+
+@Value
+public class EstatisticasAuditoria {
+    int profundidadeFila;
+    int capacidadeFila;
+    long enfileirados;
+    long descartados;
+    long gravados;
+    long lotesGravados;
+    long falhas;
+    double mediaLoteMillis;
+}
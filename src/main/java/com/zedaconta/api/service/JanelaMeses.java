@@ -0,0 +1,11 @@
+package com.zedaconta.api.service;
+
+/**
+ * Intervalo de meses, inclusivo nas duas pontas, a ser calculado.
+ */
+public record JanelaMeses(int mesInicial, int mesFinal) {
+
+    public int tamanho() {
+        return mesFinal - mesInicial + 1;
+    }
+}
@@ -0,0 +1,15 @@
+package com.zedaconta.api.service;
+
+import lombok.Value;
+
+/**
+ * Entradas de uma simulação já normalizadas para a base mensal:
+ * taxa em decimal ao mês e horizonte em meses.
+ */
+@Value
+public class ParametrosCalculo {
+    double valorInicial;
+    double aporteMensal;
+    double taxaJurosMensal;
+    int meses;
+}
@@ -0,0 +1,33 @@
+package com.zedaconta.api.service;
+
+/**
+ * Passo mensal e arredondamento compartilhados pelos motores de cálculo.
+ * Cada mês aplica os juros sobre o montante e depois soma o aporte; os valores
+ * exibidos são arredondados para centavos.
+ */
+final class PassoMensal {
+
+    private PassoMensal() {
+    }
+
+    /**
+     * Juros do mês sobre o montante no início do mês
+     */
+    static double juros(double montante, double taxaJurosMensal) {
+        return montante * taxaJurosMensal;
+    }
+
+    /**
+     * Montante ao final do mês: primeiro os juros, depois o aporte
+     */
+    static double montanteAposMes(double montante, double jurosMes, double aporte) {
+        return montante + jurosMes + aporte;
+    }
+
+    /**
+     * Arredonda um valor para duas casas decimais
+     */
+    static double arredondar(double valor) {
+        return Math.round(valor * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,139 @@
+package com.zedaconta.api.service;
+
+import com.zedaconta.api.cache.LruCache;
+import com.zedaconta.api.model.RefreshToken;
+import com.zedaconta.api.model.User;
+import com.zedaconta.api.repository.RefreshTokenRepository;
+import com.zedaconta.api.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Issues and rotates refresh tokens. Tokens are random, stored only as a SHA-256
+ * hash, and single use: every refresh deletes the presented token and issues a
+ * new one. A bounded in-memory index of the most recently issued hashes answers
+ * most lookups without a query; older tokens fall back to the database.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final long refreshValidityInMilliseconds;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final LruCache<String, IndexEntry> index;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UserRepository userRepository,
+                               @Value("${jwt.refresh-expiration}") long refreshValidityInMilliseconds,
+                               @Value("${jwt.refresh-index-size:10000}") int indexSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.refreshValidityInMilliseconds = refreshValidityInMilliseconds;
+        this.index = new LruCache<>(indexSize, Duration.ofMillis(refreshValidityInMilliseconds));
+    }
+
+    @Transactional
+    public String issue(User user) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        
+        Instant now = Instant.now();
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(hash(rawToken));
+        refreshToken.setUser(user);
+        refreshToken.setTokenVersion(user.getTokenVersion());
+        refreshToken.setCreatedAt(now);
+        refreshToken.setExpiresAt(now.plusMillis(refreshValidityInMilliseconds));
+        
+        refreshTokenRepository.save(refreshToken);
+        
+        // Indexed only once the row is committed, so a rolled back insert leaves no entry behind
+        String tokenHash = refreshToken.getTokenHash();
+        IndexEntry entry = new IndexEntry(user.getId(), refreshToken.getTokenVersion(), refreshToken.getExpiresAt());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index.put(tokenHash, entry);
+            }
+        });
+        return rawToken;
+    }
+
+    /**
+     * Consumes the refresh token and returns its user, who must still be enabled
+     * and on the same token version. The caller issues the new token pair.
+     */
+    @Transactional
+    public User consume(String rawToken) {
+        String tokenHash = hash(rawToken);
+        
+        IndexEntry entry = index.get(tokenHash);
+        index.invalidate(tokenHash);
+        if (entry == null) {
+            // Issued by another instance, before a restart or evicted from the index
+            entry = refreshTokenRepository.findByTokenHash(tokenHash)
+                    .map(token -> new IndexEntry(token.getUser().getId(), token.getTokenVersion(), token.getExpiresAt()))
+                    .orElseThrow(RefreshTokenService::invalidToken);
+        }
+        
+        // Single use: only the caller that actually deletes the row may proceed
+        if (refreshTokenRepository.deleteByTokenHash(tokenHash) == 0 || entry.expiresAt().isBefore(Instant.now())) {
+            throw invalidToken();
+        }
+        
+        User user = userRepository.findById(entry.userId()).orElseThrow(RefreshTokenService::invalidToken);
+        if (!user.isEnabled() || user.getTokenVersion() != entry.tokenVersion()) {
+            throw invalidToken();
+        }
+        return user;
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.refresh-cleanup-interval:3600000}")
+    public void purgeExpired() {
+        // Index entries share the token TTL and expire on their own
+        Instant now = Instant.now();
+        int removed = refreshTokenRepository.deleteExpired(now);
+        if (removed > 0) {
+            log.info("Removed {} expired refresh tokens", removed);
+        }
+    }
+
+    private static ResponseStatusException invalidToken() {
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or expired refresh token");
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record IndexEntry(Long userId, long tokenVersion, Instant expiresAt) {
+    }
+}
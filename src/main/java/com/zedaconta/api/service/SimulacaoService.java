@@ -0,0 +1,87 @@
+package com.zedaconta.api.service;
+
+import com.zedaconta.api.dto.CalculadoraJurosRequest;
+import com.zedaconta.api.dto.CalculadoraJurosResponse;
+import com.zedaconta.api.dto.SimulacaoDTO;
+import com.zedaconta.api.model.Simulacao;
+import com.zedaconta.api.repository.SimulacaoRepository;
+import com.zedaconta.api.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+
+@Service
+@RequiredArgsConstructor
+public class SimulacaoService {
+
+    private final SimulacaoRepository simulacaoRepository;
+    private final UserRepository userRepository;
+    private final CalculadoraJurosService calculadoraJurosService;
+    private final CalculadoraJurosCache calculadoraJurosCache;
+
+    /**
+     * Salva a simulação com as entradas normalizadas e os totais pela fórmula fechada
+     */
+    @Transactional
+    public SimulacaoDTO salvar(Long userId, CalculadoraJurosRequest request) {
+        ParametrosCalculo parametros = calculadoraJurosService.normalizar(request);
+        CalculadoraJurosResponse totais = calculadoraJurosService.calcularResumo(parametros);
+        
+        Simulacao simulacao = new Simulacao();
+        simulacao.setUser(userRepository.getReferenceById(userId));
+        simulacao.setValorInicial(parametros.getValorInicial());
+        simulacao.setAporteMensal(parametros.getAporteMensal());
+        simulacao.setTaxaJurosMensal(parametros.getTaxaJurosMensal());
+        simulacao.setMeses(parametros.getMeses());
+        simulacao.setValorFinal(totais.getValorFinal());
+        simulacao.setJuros(totais.getJuros());
+        simulacao.setTotalInvestido(totais.getTotalInvestido());
+        simulacao.setCriadoEm(Instant.now());
+        
+        return paraDTO(simulacaoRepository.save(simulacao)).build();
+    }
+
+    /**
+     * Lista as simulações do usuário, das mais recentes para as mais antigas
+     */
+    @Transactional(readOnly = true)
+    public Page<SimulacaoDTO> listar(Long userId, int pagina, int tamanho) {
+        return simulacaoRepository.findByUserIdOrderByCriadoEmDescIdDesc(userId, PageRequest.of(pagina, tamanho))
+                .map(simulacao -> paraDTO(simulacao).build());
+    }
+
+    /**
+     * Reabre a simulação, recalculando os resultados mensais a partir das entradas salvas
+     */
+    @Transactional(readOnly = true)
+    public SimulacaoDTO reabrir(Long userId, Long id) {
+        Simulacao simulacao = simulacaoRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Simulação não encontrada"));
+        
+        ParametrosCalculo parametros = new ParametrosCalculo(simulacao.getValorInicial(),
+                simulacao.getAporteMensal(), simulacao.getTaxaJurosMensal(), simulacao.getMeses());
+        
+        return paraDTO(simulacao)
+                .resultadosMensais(calculadoraJurosCache.calcularJurosCompostos(parametros).getResultadosMensais())
+                .build();
+    }
+
+    private static SimulacaoDTO.SimulacaoDTOBuilder paraDTO(Simulacao simulacao) {
+        return SimulacaoDTO.builder()
+                .id(simulacao.getId())
+                .valorInicial(simulacao.getValorInicial())
+                .aporteMensal(simulacao.getAporteMensal())
+                .taxaJurosMensal(simulacao.getTaxaJurosMensal())
+                .meses(simulacao.getMeses())
+                .valorFinal(simulacao.getValorFinal())
+                .juros(simulacao.getJuros())
+                .totalInvestido(simulacao.getTotalInvestido())
+                .criadoEm(simulacao.getCriadoEm());
+    }
+}
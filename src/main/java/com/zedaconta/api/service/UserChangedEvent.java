@@ -0,0 +1,13 @@
+package com.zedaconta.api.service;
+
+import com.zedaconta.api.model.User;
+import lombok.Value;
+
+/**
+ * Published by {@link UserService} whenever a user is created or changed,
+ * so in-memory copies of the user can be refreshed or evicted.
+ */
+@Value
+public class UserChangedEvent {
+    User user;
+}
@@ -0,0 +1,155 @@
+package com.zedaconta.api.service;
+
+import com.zedaconta.api.dto.UserImportItemDTO;
+import com.zedaconta.api.dto.UserImportRequest;
+import com.zedaconta.api.dto.UserImportResponse;
+import com.zedaconta.api.model.User;
+import com.zedaconta.api.repository.UserRepository;
+import com.zedaconta.api.security.BoundedPasswordEncoder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bulk user import for partner onboarding. Passwords are hashed in parallel on
+ * the password-hashing pool and users are inserted in JDBC batches, one
+ * transaction per chunk. A duplicate fails only its chunk, which is then retried
+ * row by row to report exactly which entries clash.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+
+    @Value("${security.user-import.max-size:10000}")
+    private int maxSize;
+
+    public UserImportResponse importUsers(List<UserImportRequest> requests) {
+        if (requests.size() > maxSize) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Import must have at most " + maxSize + " users");
+        }
+        
+        UserImportItemDTO[] items = new UserImportItemDTO[requests.size()];
+        List<Integer> indexes = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            List<String> errors = validate(requests.get(i));
+            if (errors.isEmpty()) {
+                indexes.add(i);
+                users.add(toUser(requests.get(i)));
+            } else {
+                items[i] = failed(i, requests.get(i), errors);
+            }
+        }
+        
+        List<String> hashes = passwordEncoder.encodeAll(users.stream().map(User::getPassword).toList());
+        for (int i = 0; i < users.size(); i++) {
+            users.get(i).setPassword(hashes.get(i));
+        }
+        
+        for (int start = 0; start < users.size(); start += CHUNK_SIZE) {
+            int end = Math.min(start + CHUNK_SIZE, users.size());
+            insertChunk(users.subList(start, end), indexes.subList(start, end), items);
+        }
+        
+        int failed = (int) Arrays.stream(items).filter(item -> item.getErrors() != null).count();
+        log.info("Imported {} of {} users", items.length - failed, items.length);
+        
+        return UserImportResponse.builder()
+                .total(items.length)
+                .created(items.length - failed)
+                .failed(failed)
+                .items(Arrays.asList(items))
+                .build();
+    }
+
+    private void insertChunk(List<User> users, List<Integer> indexes, UserImportItemDTO[] items) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(users);
+                userRepository.flush();
+            });
+            for (int i = 0; i < users.size(); i++) {
+                items[indexes.get(i)] = created(indexes.get(i), users.get(i));
+            }
+            return;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Import chunk rejected by a constraint, retrying row by row", e);
+        }
+        
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            user.setId(null); // Assigned by the rolled back batch
+            try {
+                items[indexes.get(i)] = created(indexes.get(i), userRepository.saveAndFlush(user));
+            } catch (DataIntegrityViolationException e) {
+                items[indexes.get(i)] = UserImportItemDTO.builder()
+                        .index(indexes.get(i))
+                        .username(user.getUsername())
+                        .errors(List.of(UserService.duplicateMessage(e)))
+                        .build();
+            }
+        }
+    }
+
+    private List<String> validate(UserImportRequest request) {
+        if (request == null) {
+            return List.of("user not provided");
+        }
+        
+        Set<ConstraintViolation<UserImportRequest>> violations = validator.validate(request);
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+
+    private UserImportItemDTO created(int index, User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user));
+        return UserImportItemDTO.builder()
+                .index(index)
+                .username(user.getUsername())
+                .userId(user.getId())
+                .build();
+    }
+
+    private static UserImportItemDTO failed(int index, UserImportRequest request, List<String> errors) {
+        return UserImportItemDTO.builder()
+                .index(index)
+                .username(request != null ? request.getUsername() : null)
+                .errors(errors)
+                .build();
+    }
+
+    private static User toUser(UserImportRequest request) {
+        User user = new User();
+        user.setUsername(request.getUsername());
+        user.setPassword(request.getPassword());
+        user.setEmail(request.getEmail());
+        user.setFullName(request.getFullName());
+        user.setRole(request.getRole());
+        return user;
+    }
+}
@@ -3,8 +3,15 @@ package com.zedaconta.api.service;
 import com.zedaconta.api.model.User;
 import com.zedaconta.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
@@ -12,22 +19,69 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * Inserts the user in a single statement; duplicates are detected by the
+     * unique constraints on username and email instead of pre-queries
+     */
     public User createUser(User user) {
-        if (userRepository.existsByUsername(user.getUsername())) {
-            throw new RuntimeException("Username already exists");
-        }
+        user.setPassword(passwordEncoder.encode(user.getPassword()));
         
-        if (userRepository.existsByEmail(user.getEmail())) {
-            throw new RuntimeException("Email already in use");
+        User saved;
+        try {
+            saved = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, duplicateMessage(e));
         }
-        
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(saved));
+        return saved;
     }
     
+    /**
+     * Maps a unique constraint violation on the users table to a client message
+     */
+    public static String duplicateMessage(DataIntegrityViolationException e) {
+        String cause = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        if (cause.contains(User.UK_USERNAME)) {
+            return "Username already exists";
+        }
+        if (cause.contains(User.UK_EMAIL)) {
+            return "Email already in use";
+        }
+        return "User violates a data constraint";
+    }
+    
+    @Transactional(readOnly = true)
     public User getUserById(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
     }
+    
+    /**
+     * Disables the user and revokes every token already issued to it
+     */
+    @Transactional
+    public User disableUser(Long id) {
+        User user = getUserById(id);
+        user.setEnabled(false);
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(saved));
+        return saved;
+    }
+    
+    /**
+     * Revokes every token issued to the user, forcing a new login
+     */
+    @Transactional
+    public User revokeTokens(Long id) {
+        User user = getUserById(id);
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(saved));
+        return saved;
+    }
 }
@@ -0,0 +1,95 @@
+package com.zedaconta.api.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LruCacheTest {
+
+    @Test
+    void concurrentMissesComputeOnce() throws Exception {
+        LruCache<String, String> cache = new LruCache<>(10, Duration.ofMinutes(1));
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.getOrCompute("key", key -> {
+                    computations.incrementAndGet();
+                    loaderStarted.countDown();
+                    await(releaseLoader);
+                    return "value";
+                })));
+            }
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            // Give the other callers time to reach the in-flight computation
+            Thread.sleep(100);
+            releaseLoader.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, computations.get());
+            assertEquals(1, cache.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void loaderExceptionReachesEveryCallerAndIsNotCached() {
+        LruCache<String, String> cache = new LruCache<>(10, null);
+
+        assertThrows(IllegalStateException.class, () -> cache.getOrCompute("key", key -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals("value", cache.getOrCompute("key", key -> "value"));
+    }
+
+    @Test
+    void valueComputedDuringInvalidationIsNotStored() throws Exception {
+        LruCache<String, String> cache = new LruCache<>(10, null);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> result = executor.submit(() -> cache.getOrCompute("key", key -> {
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return "stale";
+            }));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            cache.invalidate("key");
+            releaseLoader.countDown();
+
+            assertEquals("stale", result.get(5, TimeUnit.SECONDS));
+            assertNull(cache.get("key"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
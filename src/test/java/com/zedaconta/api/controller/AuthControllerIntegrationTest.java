@@ -0,0 +1,159 @@
+package com.zedaconta.api.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zedaconta.api.config.DataSourcePoolStats;
+import com.zedaconta.api.config.ReadWriteRoutingDataSource;
+import com.zedaconta.api.model.Role;
+import com.zedaconta.api.model.User;
+import com.zedaconta.api.repository.UserRepository;
+import com.zedaconta.api.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Login and refresh against the local setup, where the replica pool connects
+ * with a SELECT-only H2 user: any write routed to the replica fails.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void replicaRejectsWrites() {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+
+        assertTrue(replica.queryForObject("select count(*) from users", Long.class) >= 0);
+        assertThrows(DataAccessException.class,
+                () -> replica.update("update users set full_name = full_name where id = -1"));
+    }
+
+    @Test
+    void loginReadsFromReplicaAndRefreshRotatesTokens() throws Exception {
+        // Saved directly, without the change event that would put it in the user cache
+        User user = new User();
+        user.setUsername("replica-login");
+        user.setPassword(passwordEncoder.encode("secret123"));
+        user.setEmail("replica-login@example.com");
+        user.setRole(Role.USER);
+        userRepository.saveAndFlush(user);
+
+        long replicaBefore = replicaConnectionsRouted();
+        // Cold user cache: the lookup runs in a read-only transaction on the replica,
+        // then the refresh token insert has to get its own primary connection
+        String login = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "replica-login", "password": "secret123"}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isString())
+                .andReturn().getResponse().getContentAsString();
+        assertTrue(replicaConnectionsRouted() > replicaBefore, "login lookup did not use the replica");
+
+        String refreshToken = JsonPath.read(login, "$.refreshToken");
+        String refreshed = mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\": \"" + refreshToken + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isString())
+                .andReturn().getResponse().getContentAsString();
+
+        String rotated = JsonPath.read(refreshed, "$.refreshToken");
+        assertNotEquals(refreshToken, rotated, "refresh token was not rotated");
+
+        // Single use: the consumed token is rejected
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\": \"" + refreshToken + "\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void disabledUserCannotLogInOrUseIssuedTokens() throws Exception {
+        String registered = register("disabled-login");
+        Number userId = JsonPath.read(registered, "$.userId");
+
+        // Warm the user cache and the token version registry before disabling
+        String login = login("disabled-login");
+        String token = JsonPath.read(login, "$.token");
+        String refreshToken = JsonPath.read(login, "$.refreshToken");
+        mockMvc.perform(get("/user/profile").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        userService.disableUser(userId.longValue());
+
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "disabled-login", "password": "secret123"}
+                                """))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/user/profile").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\": \"" + refreshToken + "\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String register(String username) throws Exception {
+        return mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\": \"" + username + "\", \"password\": \"secret123\", "
+                                + "\"email\": \"" + username + "@example.com\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private String login(String username) throws Exception {
+        return mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\": \"" + username + "\", \"password\": \"secret123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private long replicaConnectionsRouted() {
+        return routingDataSource.poolStats().stream()
+                .filter(stats -> "replica".equals(stats.getPool()))
+                .mapToLong(DataSourcePoolStats::getConnectionsRouted)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,46 @@
+package com.zedaconta.api.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CalculadoraControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(roles = "FRONTEND")
+    void streamingPassaPeloDespachoAssincrono() throws Exception {
+        MvcResult inicio = mockMvc.perform(post("/calculadora/juros-compostos")
+                        .servletPath("/calculadora/juros-compostos")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"valorInicial": 1000, "valorMensal": 100, "taxaJuros": 1, "periodoJuros": "mensal",
+                                 "tempoInvestimento": 12, "periodoInvestimento": "meses"}
+                                """))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String corpo = mockMvc.perform(asyncDispatch(inicio))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Mês 0 mais os 12 meses simulados
+        assertEquals(13, corpo.lines().count());
+    }
+}
@@ -0,0 +1,96 @@
+package com.zedaconta.api.security;
+
+import com.zedaconta.api.model.AuditoriaCalculo;
+import com.zedaconta.api.repository.AuditoriaCalculoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Chamadas recusadas também chegam à tabela de auditoria, com o status da resposta.
+ */
+@SpringBootTest(properties = {
+        "calculadora.limite.capacidade=3",
+        "calculadora.limite.reposicao-por-segundo=0.01",
+        "calculadora.auditoria.intervalo=50ms"
+})
+@AutoConfigureMockMvc
+class AuditoriaCalculoFilterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuditoriaCalculoRepository auditoriaCalculoRepository;
+
+    @Test
+    @WithMockUser(username = "auditoria-erro", roles = "FRONTEND")
+    void calculoRecusadoEAuditadoComStatusEEntradas() throws Exception {
+        // Valor inicial fora da faixa exata do motor em centavos
+        mockMvc.perform(calculo("/calculadora/juros-compostos/centavos", 1e15))
+                .andExpect(status().isUnprocessableEntity());
+
+        AuditoriaCalculo registro = aguardarRegistro(r -> r.getUsuario().equals("auditoria-erro"));
+        assertEquals("juros-compostos-centavos", registro.getOperacao());
+        assertEquals(422, registro.getStatus());
+        assertNotNull(registro.getEntradas());
+    }
+
+    @Test
+    @WithMockUser(username = "auditoria-limite", roles = "FRONTEND")
+    void chamadaBarradaPeloLimiteEAuditada() throws Exception {
+        int rejeitadas = 0;
+        for (int i = 0; i < 5; i++) {
+            int status = mockMvc.perform(calculo("/calculadora/juros-compostos/resumo", 1000.0))
+                    .andReturn().getResponse().getStatus();
+            if (status == 429) {
+                rejeitadas++;
+            }
+        }
+        assertTrue(rejeitadas > 0, "o limite de requisições não foi atingido");
+
+        AuditoriaCalculo registro = aguardarRegistro(r -> r.getUsuario().equals("auditoria-limite") && r.getStatus() == 429);
+        assertEquals("juros-compostos-resumo", registro.getOperacao());
+        // Recusada antes do endpoint: não há entradas
+        assertNull(registro.getEntradas());
+    }
+
+    private static MockHttpServletRequestBuilder calculo(String caminho, double valorInicial) {
+        // Os filtros da calculadora olham o servlet path, que o MockMvc deixa vazio por padrão
+        return post(caminho)
+                .servletPath(caminho)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"valorInicial": %s, "valorMensal": 100, "taxaJuros": 1, "periodoJuros": "mensal",
+                         "tempoInvestimento": 12, "periodoInvestimento": "meses"}
+                        """.formatted(valorInicial));
+    }
+
+    private AuditoriaCalculo aguardarRegistro(Predicate<AuditoriaCalculo> filtro) throws InterruptedException {
+        long prazo = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < prazo) {
+            List<AuditoriaCalculo> registros = auditoriaCalculoRepository.findAll().stream().filter(filtro).toList();
+            if (!registros.isEmpty()) {
+                return registros.get(0);
+            }
+            Thread.sleep(50);
+        }
+        return fail("registro de auditoria não gravado");
+    }
+}
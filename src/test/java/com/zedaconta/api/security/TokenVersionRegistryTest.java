@@ -0,0 +1,74 @@
+package com.zedaconta.api.security;
+
+import com.zedaconta.api.model.User;
+import com.zedaconta.api.repository.UserRepository;
+import com.zedaconta.api.service.UserChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenVersionRegistryTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    @Test
+    void newerClaimReloadsVersionBumpedOnAnotherInstance() {
+        TokenVersionRegistry registry = new TokenVersionRegistry(userRepository, 100, Duration.ofHours(1));
+        when(userRepository.findByIdOnPrimary(1L)).thenReturn(Optional.of(user(1L, 0, true)));
+        assertTrue(registry.isCurrent(1L, 0));
+
+        // Revoked elsewhere: this instance never saw the event
+        when(userRepository.findByIdOnPrimary(1L)).thenReturn(Optional.of(user(1L, 1, true)));
+
+        assertTrue(registry.isCurrent(1L, 1));
+        assertFalse(registry.isCurrent(1L, 0));
+        verify(userRepository, times(2)).findByIdOnPrimary(1L);
+    }
+
+    @Test
+    void expiredEntryPicksUpRevocationFromAnotherInstance() {
+        TokenVersionRegistry registry = new TokenVersionRegistry(userRepository, 100, Duration.ZERO);
+        when(userRepository.findByIdOnPrimary(1L)).thenReturn(Optional.of(user(1L, 0, true)));
+        assertTrue(registry.isCurrent(1L, 0));
+
+        when(userRepository.findByIdOnPrimary(1L)).thenReturn(Optional.of(user(1L, 1, false)));
+
+        assertFalse(registry.isCurrent(1L, 0));
+    }
+
+    @Test
+    void loadCannotReplaceNewerVersionFromEvent() {
+        TokenVersionRegistry registry = new TokenVersionRegistry(userRepository, 100, Duration.ofHours(1));
+        registry.onUserChanged(new UserChangedEvent(user(1L, 2, true)));
+        // Stale row read before the change committed
+        when(userRepository.findByIdOnPrimary(1L)).thenReturn(Optional.of(user(1L, 1, true)));
+
+        assertFalse(registry.isCurrent(1L, 1));
+        assertTrue(registry.isCurrent(1L, 2));
+    }
+
+    @Test
+    void unknownUserIsNotCurrent() {
+        TokenVersionRegistry registry = new TokenVersionRegistry(userRepository, 100, Duration.ofHours(1));
+        when(userRepository.findByIdOnPrimary(1L)).thenReturn(Optional.empty());
+
+        assertFalse(registry.isCurrent(1L, 0));
+    }
+
+    private static User user(Long id, long tokenVersion, boolean enabled) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setTokenVersion(tokenVersion);
+        user.setEnabled(enabled);
+        return user;
+    }
+}
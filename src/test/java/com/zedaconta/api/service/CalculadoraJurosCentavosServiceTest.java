@@ -0,0 +1,76 @@
+package com.zedaconta.api.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CalculadoraJurosCentavosServiceTest {
+
+    private final CalculadoraJurosCentavosService service =
+            new CalculadoraJurosCentavosService(new CalculadoraJurosService());
+
+    @Test
+    void cronogramaCurtoFechaAoCentavo() {
+        List<double[]> linhas = percorrer(new ParametrosCalculo(1000.0, 100.0, 0.01, 3));
+
+        assertLinha(linhas.get(0), 0, 1000.00, 0.00, 0.00, 1000.00);
+        assertLinha(linhas.get(1), 1, 1100.00, 10.00, 10.00, 1110.00);
+        assertLinha(linhas.get(2), 2, 1200.00, 11.10, 21.10, 1221.10);
+        // 1221,10 * 1% = 12,211: arredonda para 12,21
+        assertLinha(linhas.get(3), 3, 1300.00, 12.21, 33.31, 1333.31);
+    }
+
+    @Test
+    void meioCentavoArredondaParaCima() {
+        List<double[]> linhas = percorrer(new ParametrosCalculo(0.50, 0.0, 0.01, 1));
+
+        assertLinha(linhas.get(1), 1, 0.50, 0.01, 0.01, 0.51);
+    }
+
+    @Test
+    void cronogramaDeDoisAnosFechaAoCentavo() {
+        List<double[]> linhas = percorrer(new ParametrosCalculo(2500.00, 350.00, 0.0075, 24));
+
+        assertLinha(linhas.get(12), 12, 6700.00, 50.34, 412.18, 7112.18);
+        assertLinha(linhas.get(24), 24, 10900.00, 87.89, 1257.01, 12157.01);
+    }
+
+    @Test
+    void valorInicialForaDoIntervaloExatoRetorna422() {
+        ResponseStatusException erro = assertThrows(ResponseStatusException.class,
+                () -> percorrer(new ParametrosCalculo(1e15, 0.0, 0.01, 12)));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, erro.getStatusCode());
+    }
+
+    @Test
+    void saldoQueCresceAlemDoIntervaloExatoRetorna422() {
+        // Cabe em centavos no início, mas 10% ao mês por 40 anos estouraria um long
+        ResponseStatusException erro = assertThrows(ResponseStatusException.class,
+                () -> percorrer(new ParametrosCalculo(1e13, 1e13, 0.10, 480)));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, erro.getStatusCode());
+    }
+
+    private List<double[]> percorrer(ParametrosCalculo parametros) {
+        List<double[]> linhas = new ArrayList<>();
+        service.percorrerMeses(parametros, (mes, valorInvestido, juros, totalJuros, total) ->
+                linhas.add(new double[]{mes, valorInvestido, juros, totalJuros, total}));
+        return linhas;
+    }
+
+    private static void assertLinha(double[] linha, int mes, double valorInvestido, double juros,
+                                    double totalJuros, double total) {
+        assertEquals(mes, (int) linha[0]);
+        assertEquals(valorInvestido, linha[1], "valor investido no mês " + mes);
+        assertEquals(juros, linha[2], "juros no mês " + mes);
+        assertEquals(totalJuros, linha[3], "total de juros no mês " + mes);
+        assertEquals(total, linha[4], "total no mês " + mes);
+    }
+}
@@ -0,0 +1,130 @@
+package com.zedaconta.api.service;
+
+import com.zedaconta.api.dto.CalculadoraJurosResponse;
+import com.zedaconta.api.dto.ResultadoMensalDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CalculadoraJurosServiceTest {
+
+    /**
+     * Limite documentado em {@link CalculadoraJurosService#calcularResumo(ParametrosCalculo)}
+     */
+    private static final double VALOR_FINAL_MAXIMO = 1e11;
+
+    private final CalculadoraJurosService service = new CalculadoraJurosService();
+
+    /**
+     * Todas as combinações de período da taxa e do investimento, com horizontes
+     * de 1, 30 e 40 anos expressos na unidade do período
+     */
+    static Stream<Arguments> combinacoesDePeriodo() {
+        List<Arguments> casos = new ArrayList<>();
+        for (String periodoJuros : List.of("mensal", "anual", "diaria")) {
+            double taxaJuros = switch (periodoJuros) {
+                case "anual" -> 12.0;
+                case "diaria" -> 0.03;
+                default -> 0.8;
+            };
+            for (int anos : new int[]{1, 30, 40}) {
+                casos.add(Arguments.of(taxaJuros, periodoJuros, anos * 12, "meses"));
+                casos.add(Arguments.of(taxaJuros, periodoJuros, anos, "anos"));
+                casos.add(Arguments.of(taxaJuros, periodoJuros, anos * 360, "dias"));
+            }
+        }
+        return casos.stream();
+    }
+
+    @ParameterizedTest(name = "{0} {1}, {2} {3}")
+    @MethodSource("combinacoesDePeriodo")
+    void resumoCoincideComUltimaLinhaDoCalculoMesAMes(double taxaJuros, String periodoJuros,
+                                                      int tempoInvestimento, String periodoInvestimento) {
+        ParametrosCalculo parametros = service.normalizar(1000.0, 500.0, taxaJuros, periodoJuros,
+                tempoInvestimento, periodoInvestimento);
+
+        CalculadoraJurosResponse resumo = service.calcularResumo(parametros);
+        ResultadoMensalDTO ultimo = ultimaLinha(parametros);
+
+        assertEquals(ultimo.getTotal(), resumo.getValorFinal());
+        assertEquals(ultimo.getTotalJuros(), resumo.getJuros());
+        assertEquals(ultimo.getValorInvestido(), resumo.getTotalInvestido());
+    }
+
+    @Test
+    void resumoDifereNoMaximoUmCentavoAbaixoDoLimiteDocumentado() {
+        SplittableRandom aleatorio = new SplittableRandom(20240601L);
+        String[] periodosJuros = {"mensal", "anual", "diaria"};
+        String[] periodosInvestimento = {"meses", "anos", "dias"};
+        int verificados = 0;
+
+        for (int i = 0; i < 20000; i++) {
+            String periodoJuros = periodosJuros[aleatorio.nextInt(periodosJuros.length)];
+            String periodoInvestimento = periodosInvestimento[aleatorio.nextInt(periodosInvestimento.length)];
+            double valorInicial = centavos(aleatorio.nextDouble(0.01, 1_000_000));
+            double valorMensal = centavos(aleatorio.nextDouble(0.01, 100_000));
+            double taxaJuros = centavos(switch (periodoJuros) {
+                case "anual" -> aleatorio.nextDouble(0.01, 40);
+                case "diaria" -> aleatorio.nextDouble(0.01, 0.2);
+                default -> aleatorio.nextDouble(0.01, 5);
+            });
+            int tempoInvestimento = switch (periodoInvestimento) {
+                case "anos" -> aleatorio.nextInt(1, 41);
+                case "dias" -> aleatorio.nextInt(30, 14401);
+                default -> aleatorio.nextInt(1, 481);
+            };
+            ParametrosCalculo parametros = service.normalizar(valorInicial, valorMensal, taxaJuros, periodoJuros,
+                    tempoInvestimento, periodoInvestimento);
+
+            CalculadoraJurosResponse resumo = service.calcularResumo(parametros);
+            if (resumo.getValorFinal() >= VALOR_FINAL_MAXIMO) {
+                continue;
+            }
+            ResultadoMensalDTO ultimo = ultimaLinha(parametros);
+            String caso = parametros.toString();
+            assertAteUmCentavo(ultimo.getTotal(), resumo.getValorFinal(), caso);
+            assertAteUmCentavo(ultimo.getTotalJuros(), resumo.getJuros(), caso);
+            assertAteUmCentavo(ultimo.getValorInvestido(), resumo.getTotalInvestido(), caso);
+            verificados++;
+        }
+
+        assertTrue(verificados > 10000, "Poucos casos abaixo do limite: " + verificados);
+    }
+
+    @Test
+    void resumoDifereNoMaximoUmCentavoQuandoValorExatoFicaRenteAMeioCentavo() {
+        // Valor final perto de R$ 72 bilhões: o laço e a fórmula fechada caem em lados opostos de meio centavo
+        ParametrosCalculo parametros = new ParametrosCalculo(129.72, 2639.68, 0.0288, 478);
+
+        CalculadoraJurosResponse resumo = service.calcularResumo(parametros);
+        ResultadoMensalDTO ultimo = ultimaLinha(parametros);
+
+        assertAteUmCentavo(ultimo.getTotal(), resumo.getValorFinal(), parametros.toString());
+        assertAteUmCentavo(ultimo.getTotalJuros(), resumo.getJuros(), parametros.toString());
+        assertEquals(ultimo.getValorInvestido(), resumo.getTotalInvestido());
+    }
+
+    private ResultadoMensalDTO ultimaLinha(ParametrosCalculo parametros) {
+        List<ResultadoMensalDTO> resultados = service.calcularJurosCompostos(parametros).getResultadosMensais();
+        assertEquals(parametros.getMeses() + 1, resultados.size());
+        return resultados.get(resultados.size() - 1);
+    }
+
+    private static void assertAteUmCentavo(double esperado, double atual, String caso) {
+        long diferenca = Math.abs(Math.round(esperado * 100) - Math.round(atual * 100));
+        assertTrue(diferenca <= 1, () -> caso + ": esperado " + esperado + ", obtido " + atual);
+    }
+
+    private static double centavos(double valor) {
+        return Math.round(valor * 100) / 100.0;
+    }
+}
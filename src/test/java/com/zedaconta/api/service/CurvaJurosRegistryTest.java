@@ -0,0 +1,55 @@
+package com.zedaconta.api.service;
+
+import com.zedaconta.api.config.CalculadoraProperties;
+import com.zedaconta.api.repository.CurvaJurosPublicadaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Publicação numa instância e leitura noutra: a segunda instância é um
+ * registro novo, com o mapa em memória vazio, sobre o mesmo banco.
+ */
+@SpringBootTest
+class CurvaJurosRegistryTest {
+
+    @Autowired
+    private CurvaJurosRegistry curvaJurosRegistry;
+
+    @Autowired
+    private CurvaJurosPublicadaRepository curvaJurosPublicadaRepository;
+
+    @Autowired
+    private CalculadoraProperties calculadoraProperties;
+
+    @Test
+    void outraInstanciaCarregaCurvaPublicadaESincronizaAtualizacao() {
+        curvaJurosRegistry.publicar("selic-teste", List.of(1.0, 1.0, 1.0));
+        CurvaJurosRegistry outraInstancia = new CurvaJurosRegistry(curvaJurosPublicadaRepository, calculadoraProperties);
+
+        CurvaJuros carregada = outraInstancia.obter("selic-teste");
+        assertEquals(3, carregada.getMeses());
+        assertEquals(1000 * 1.01 * 1.01 * 1.01, carregada.montante(1000, 0, 0, 3), 1e-9);
+
+        curvaJurosRegistry.publicar("selic-teste", List.of(2.0, 2.0, 2.0, 2.0));
+        outraInstancia.sincronizar();
+
+        CurvaJuros atualizada = outraInstancia.obter("selic-teste");
+        assertEquals(4, atualizada.getMeses());
+        assertEquals(carregada.getVersao() + 1, atualizada.getVersao());
+        assertEquals(atualizada.getVersao(), curvaJurosRegistry.obter("selic-teste").getVersao());
+    }
+
+    @Test
+    void curvaInexistenteRetorna404() {
+        ResponseStatusException erro = assertThrows(ResponseStatusException.class,
+                () -> curvaJurosRegistry.obter("nao-existe"));
+        assertEquals(404, erro.getStatusCode().value());
+    }
+}